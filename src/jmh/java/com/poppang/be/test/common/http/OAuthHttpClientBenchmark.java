@@ -0,0 +1,115 @@
+package com.poppang.be.test.common.http;
+
+import com.poppang.be.test.common.config.OAuthHttpProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+OAuthHttpClient 커넥션 재사용 효과 (로컬 stub 서버, provider 호출 없음)
+- pooled: OAuthHttpClient 의 RestTemplate 그대로 (keep-alive 커넥션 재사용)
+- newConnection: 같은 클라이언트에 "Connection: close" 만 붙여서 요청마다 TCP 연결 / 종료
+- 두 경로의 차이가 요청당 연결 수립 비용, trial 이 끝나면 stub 이 받은 연결 수를 출력
+- 평문 http 라 TLS handshake 는 빠져 있음 → 실제 provider(https) 에서는 newConnection 쪽 비용이 이보다 큼
+- loopback 의 TIME_WAIT 는 net.ipv4.tcp_tw_reuse(기본 2) 로 재사용되므로 newConnection 도 포트가 고갈되지 않음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class OAuthHttpClientBenchmark {
+
+    private static final String BODY = "{\"id\":4242,\"expires_in\":21599,\"app_id\":1}";
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    private OAuthHttpClient oAuthHttpClient;
+    private RestTemplate pooled;
+    private RestTemplate newConnection;
+    private String uri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stubExecutor = Executors.newCachedThreadPool();
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.createContext("/v1/user/access_token_info", exchange -> {
+            connections.add(exchange.getRemoteAddress());
+            byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+        uri = "http://127.0.0.1:" + stub.getAddress().getPort() + "/v1/user/access_token_info";
+
+        oAuthHttpClient = new OAuthHttpClient(new OAuthHttpProperties(), new SimpleMeterRegistry());
+        pooled = oAuthHttpClient.restTemplate(Provider.KAKAO);
+
+        newConnection = new RestTemplate(pooled.getRequestFactory());
+        newConnection.getInterceptors().add((request, body, execution) -> {
+            request.getHeaders().set(HttpHeaders.CONNECTION, "close");
+            return execution.execute(request, body);
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void resetConnections() {
+        connections.clear();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportConnections() {
+        System.out.printf("  stub accepted %d connections%n", connections.size());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        oAuthHttpClient.destroy();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String pooled() {
+        return pooled.getForObject(uri, String.class);
+    }
+
+    @Benchmark
+    public String newConnection() {
+        return newConnection.getForObject(uri, String.class);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.poppang.be.test.domain.audience.application;
+
+import com.poppang.be.test.domain.audience.config.AudienceIndexProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+타게팅 조회 지연 (알림 동의 + 미탈퇴 + 키워드 2개 중 하나)
+- 유저 수만큼 id 를 채우고, 유저마다 키워드 풀(200개)에서 3~10개를 Zipf 비슷하게 편중해서 부여
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AudienceIndexBenchmark {
+
+    private static final int KEYWORDS = 200;
+
+    @Param({"1000000", "5000000"})
+    private int users;
+
+    private AudienceIndex index;
+    private AudienceQuery popularCampaign;
+    private AudienceQuery nicheCampaign;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new AudienceIndex(null, new AudienceIndexProperties());
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (long userId = 1; userId <= users; userId++) {
+            index.upsertUser(userId, random.nextInt(100) < 70, random.nextInt(100) < 5);
+
+            int count = 3 + random.nextInt(8);
+            Integer[] keywordIds = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                // 앞쪽 키워드일수록 자주 선택
+                double skew = random.nextDouble();
+                keywordIds[i] = 1 + (int) (KEYWORDS * skew * skew);
+            }
+            index.addKeywords(userId, List.of(keywordIds));
+        }
+
+        popularCampaign = AudienceQuery.pushCampaign(List.of(1, 2));
+        nicheCampaign = AudienceQuery.pushCampaign(List.of(180, 190));
+    }
+
+    @Benchmark
+    public int popularKeywords() {
+        return index.count(popularCampaign);
+    }
+
+    @Benchmark
+    public int nicheKeywords() {
+        return index.count(nicheCampaign);
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.poppang.be.test.domain.auth.apple.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.poppang.be.test.domain.auth.apple.config.AppleProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.interfaces.ECPrivateKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/*
+Apple client_secret 생성 비용
+- createWithKeyLoad : 기존 방식 (매번 .p8 파싱 + ES256 서명)
+- createWithLoadedKey : 개인키 재사용, 서명만 (ClientSecretProvider 의 캐시 미스 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AppleClientSecretBenchmark {
+
+    private AppleProperties appleProperties;
+    private ECPrivateKey privateKey;
+
+    @Setup
+    public void setUp() throws Exception {
+        appleProperties = new AppleProperties();
+        appleProperties.setClientId("com.poppang.bench");
+        appleProperties.setTeamId("BENCHTEAM1");
+        appleProperties.setKeyId("BENCHKEY01");
+        appleProperties.setPrivateKeyPath("classpath:apple/AuthKey_BENCH.p8");
+
+        privateKey = AppleJwtUtil.loadPrivateKey(appleProperties);
+    }
+
+    @Benchmark
+    public String createWithKeyLoad() throws Exception {
+        return AppleJwtUtil.createClientSecret(appleProperties);
+    }
+
+    @Benchmark
+    public String createWithLoadedKey() throws JOSEException {
+        return AppleJwtUtil.createClientSecret(appleProperties, privateKey, Instant.now(), Duration.ofMinutes(30));
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.poppang.be.test.domain.auth.apple.util;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.poppang.be.test.common.config.OAuthHttpProperties;
+import com.poppang.be.test.common.http.OAuthHttpClient;
+import com.poppang.be.test.domain.auth.apple.config.AppleProperties;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+Apple id_token 검증 비용 (JWKS 는 로컬 stub 서버에서 한 번 받아 메모리 캐시 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AppleIdTokenVerifyBenchmark {
+
+    private static final String CLIENT_ID = "com.poppang.bench";
+
+    private HttpServer jwksServer;
+    private OAuthHttpClient oAuthHttpClient;
+    private AppleJwtVerifier appleJwtVerifier;
+    private String idToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        RSAKey signingKey = new RSAKeyGenerator(2048).keyID("bench-kid").generate();
+        byte[] jwks = new JWKSet(signingKey.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+
+        jwksServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        jwksServer.createContext("/auth/keys", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, jwks.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(jwks);
+            }
+        });
+        jwksServer.start();
+
+        AppleProperties appleProperties = new AppleProperties();
+        appleProperties.setJwksUri("http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/auth/keys");
+
+        oAuthHttpClient = new OAuthHttpClient(new OAuthHttpProperties(), new SimpleMeterRegistry());
+        appleJwtVerifier = new AppleJwtVerifier(appleProperties, oAuthHttpClient);
+        appleJwtVerifier.refreshKeys();
+
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("bench-kid").build(),
+                new JWTClaimsSet.Builder()
+                        .issuer("https://appleid.apple.com")
+                        .audience(CLIENT_ID)
+                        .subject("001234.bench.5678")
+                        .claim("email", "bench@privaterelay.appleid.com")
+                        .issueTime(Date.from(now))
+                        .expirationTime(Date.from(now.plusSeconds(3600)))
+                        .build()
+        );
+        jwt.sign(new RSASSASigner(signingKey));
+        idToken = jwt.serialize();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        oAuthHttpClient.destroy();
+        jwksServer.stop(0);
+    }
+
+    @Benchmark
+    public Object verify() throws Exception {
+        return appleJwtVerifier.verifyIdToken(idToken, CLIENT_ID);
+    }
+
+}
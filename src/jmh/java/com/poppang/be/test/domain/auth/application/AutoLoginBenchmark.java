@@ -0,0 +1,144 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.auth.config.SessionTokenProperties;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.auth.util.SessionClaims;
+import com.poppang.be.test.domain.auth.util.SessionTokenCodec;
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.Users;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+자동 로그인: uid 로 DB 조회(기존) vs 서명된 액세스 토큰 검증(DB 없음)
+- DB 경로는 인메모리 H2 + 평문 JDBC (JPA / 커넥션 풀 비용은 빠져 있으므로 실제 차이는 이보다 큼)
+- 토큰 경로는 SessionTokenCodec.decode + LoginResponseDto 변환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AutoLoginBenchmark {
+
+    private static final int USERS = 10_000;
+
+    private Connection connection;
+    private PreparedStatement findByUid;
+
+    private SessionTokenCodec codec;
+    private String[] accessTokens;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:autologin;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table users (
+                        id bigint auto_increment primary key,
+                        uid varchar(255) unique,
+                        provider varchar(20),
+                        email varchar(255),
+                        nickname varchar(255),
+                        role varchar(20),
+                        is_alerted boolean,
+                        fcm_token varchar(255),
+                        is_deleted boolean
+                    )
+                    """);
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into users (uid, provider, email, nickname, role, is_alerted, fcm_token, is_deleted) values (?, ?, ?, ?, ?, ?, ?, false)")) {
+            for (int i = 0; i < USERS; i++) {
+                insert.setString(1, uid(i));
+                insert.setString(2, Provider.KAKAO.name());
+                insert.setString(3, "bench" + i + "@kakao.com");
+                insert.setString(4, "팝팡벤치" + i);
+                insert.setString(5, Role.MEMBER.name());
+                insert.setBoolean(6, true);
+                insert.setString(7, "fcm-token-" + i);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        findByUid = connection.prepareStatement(
+                "select uid, provider, email, nickname, role, is_alerted, fcm_token from users where uid = ? and is_deleted = false");
+
+        SessionTokenProperties properties = new SessionTokenProperties();
+        properties.setKeys(Map.of("bench", Base64.getEncoder().encodeToString(new byte[32])));
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        codec = new SessionTokenCodec(properties, objectMapper, new StandardEnvironment());
+
+        Instant now = Instant.now();
+        accessTokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            Users user = Users.builder()
+                    .uid(uid(i))
+                    .provider(Provider.KAKAO)
+                    .email("bench" + i + "@kakao.com")
+                    .nickname("팝팡벤치" + i)
+                    .role(Role.MEMBER)
+                    .alerted(true)
+                    .fcmToken("fcm-token-" + i)
+                    .build();
+            accessTokens[i] = codec.encode(SessionClaims.of(codec.getIssuer(), user, now, Duration.ofHours(1)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public LoginResponseDto databaseLookup() throws SQLException {
+        findByUid.setString(1, uid(ThreadLocalRandom.current().nextInt(USERS)));
+        try (ResultSet rs = findByUid.executeQuery()) {
+            if (!rs.next()) {
+                throw new IllegalStateException("user not found");
+            }
+            return LoginResponseDto.builder()
+                    .uid(rs.getString(1))
+                    .provider(Provider.valueOf(rs.getString(2)))
+                    .email(rs.getString(3))
+                    .nickname(rs.getString(4))
+                    .role(Role.valueOf(rs.getString(5)))
+                    .alerted(rs.getBoolean(6))
+                    .fcmToken(rs.getString(7))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public LoginResponseDto tokenVerify() {
+        SessionClaims claims = codec.decode(accessTokens[ThreadLocalRandom.current().nextInt(USERS)]);
+        return LoginResponseDto.from(claims);
+    }
+
+    private static String uid(int i) {
+        return String.valueOf(3_900_000_000L + i);
+    }
+
+}
@@ -0,0 +1,153 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordBulkRepository;
+import com.poppang.be.test.domain.recommend.infrastructure.UserRecommendBulkRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/*
+회원가입 키워드 / 추천 저장 구문 수와 시간 (H2 메모리 DB, MySQL 모드)
+- perRowInsert: 이전 경로와 같은 구문
+  · user_keyword: 복합키라 save 가 행마다 존재 확인 SELECT + INSERT
+  · user_recommend: findAllById SELECT 한 번 + IDENTITY id 라 행마다 INSERT
+- bulkInsert: UserKeywordBulkRepository / UserRecommendBulkRepository (각각 multi-row INSERT 한 번, 추천 id 는 카탈로그 캐시에서 확인)
+- 두 경로 모두 같은 JdbcTemplate 으로 구문 수를 세서, trial 이 끝나면 가입 1회당 구문 수를 출력
+- 로컬 H2 라 네트워크 왕복이 없음 → 실제 DB 에서는 구문 수 차이만큼 왕복 시간이 더 벌어짐
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignupInsertBenchmark {
+
+    // 가입 시 고른 키워드 수 = 추천 수
+    @Param({"3", "10", "30"})
+    private int selections;
+
+    private SingleConnectionDataSource dataSource;
+    private CountingJdbcTemplate jdbcTemplate;
+    private UserKeywordBulkRepository userKeywordBulkRepository;
+    private UserRecommendBulkRepository userRecommendBulkRepository;
+
+    private List<Integer> keywordIds;
+    private List<Long> recommendIds;
+
+    private long nextUserId;
+    private long signups;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:signup-insert;MODE=MySQL;DATABASE_TO_LOWER=TRUE", true);
+        jdbcTemplate = new CountingJdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS recommend ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, recommend_name VARCHAR(255) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_keyword ("
+                + "users_id BIGINT NOT NULL, keyword_id INT NOT NULL, PRIMARY KEY (users_id, keyword_id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_recommend ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, users_id BIGINT NOT NULL, recommend_id BIGINT NOT NULL)");
+
+        userKeywordBulkRepository = new UserKeywordBulkRepository(jdbcTemplate);
+        userRecommendBulkRepository = new UserRecommendBulkRepository(jdbcTemplate);
+
+        keywordIds = IntStream.rangeClosed(1, selections).boxed().toList();
+        recommendIds = LongStream.rangeClosed(1, selections).boxed().toList();
+        for (Long recommendId : recommendIds) {
+            jdbcTemplate.update("INSERT INTO recommend (id, recommend_name) VALUES (?, ?)", recommendId, "추천" + recommendId);
+        }
+        jdbcTemplate.statements = 0;
+    }
+
+    // 테이블이 무한히 커지지 않도록 iteration 마다 비움 (구문 수에는 포함하지 않음)
+    @Setup(Level.Iteration)
+    public void truncate() {
+        long counted = jdbcTemplate.statements;
+        jdbcTemplate.execute("TRUNCATE TABLE user_keyword");
+        jdbcTemplate.execute("TRUNCATE TABLE user_recommend");
+        jdbcTemplate.statements = counted;
+    }
+
+    @TearDown(Level.Trial)
+    public void report(BenchmarkParams params) {
+        System.out.printf("%n  %s selections=%d: %.1f statements per signup (%d signups)%n",
+                params.getBenchmark().substring(params.getBenchmark().lastIndexOf('.') + 1),
+                selections, (double) jdbcTemplate.statements / signups, signups);
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public void perRowInsert() {
+        long userId = ++nextUserId;
+        for (Integer keywordId : keywordIds) {
+            jdbcTemplate.queryForList("SELECT users_id, keyword_id FROM user_keyword WHERE users_id = ? AND keyword_id = ?",
+                    userId, keywordId);
+            jdbcTemplate.update("INSERT INTO user_keyword (users_id, keyword_id) VALUES (?, ?)", userId, keywordId);
+        }
+        jdbcTemplate.queryForList("SELECT id, recommend_name FROM recommend WHERE id IN ("
+                + String.join(", ", Collections.nCopies(recommendIds.size(), "?")) + ")", recommendIds.toArray());
+        for (Long recommendId : recommendIds) {
+            jdbcTemplate.update("INSERT INTO user_recommend (users_id, recommend_id) VALUES (?, ?)", userId, recommendId);
+        }
+        signups++;
+    }
+
+    @Benchmark
+    public void bulkInsert() {
+        long userId = ++nextUserId;
+        userKeywordBulkRepository.insertAll(userId, keywordIds);
+        userRecommendBulkRepository.insertAll(userId, recommendIds);
+        signups++;
+    }
+
+    // 실행한 구문 수를 세는 JdbcTemplate (벤치마크는 단일 스레드)
+    private static final class CountingJdbcTemplate extends JdbcTemplate {
+
+        private long statements;
+
+        private CountingJdbcTemplate(SingleConnectionDataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            statements++;
+            return super.update(sql, args);
+        }
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, Object... args) {
+            statements++;
+            return super.queryForList(sql, args);
+        }
+
+        @Override
+        public void execute(String sql) {
+            statements++;
+            super.execute(sql);
+        }
+
+    }
+
+}
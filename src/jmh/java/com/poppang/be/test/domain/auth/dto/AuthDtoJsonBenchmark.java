@@ -0,0 +1,73 @@
+package com.poppang.be.test.domain.auth.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.auth.kakao.dto.request.SignupRequestDto;
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.Users;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+로그인 / 회원가입 DTO 변환 + JSON 직렬화 비용 (ObjectMapper 는 스프링 기본 설정과 동일하게 생성)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AuthDtoJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Users user;
+    private byte[] signupRequestJson;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        user = Users.builder()
+                .id(1L)
+                .uid("3987654321")
+                .provider(Provider.KAKAO)
+                .email("bench@kakao.com")
+                .nickname("팝팡벤치")
+                .role(Role.MEMBER)
+                .alerted(true)
+                .fcmToken("fcm-token-0123456789abcdefghijklmnopqrstuvwxyz")
+                .build();
+
+        signupRequestJson = """
+                {
+                  "uid": "3987654321",
+                  "provider": "KAKAO",
+                  "email": "bench@kakao.com",
+                  "nickname": "팝팡벤치",
+                  "role": "MEMBER",
+                  "isAlerted": true,
+                  "fcmToken": "fcm-token-0123456789abcdefghijklmnopqrstuvwxyz",
+                  "keywordList": ["팝업", "전시", "굿즈", "캐릭터", "카페", "성수", "한정판", "콜라보", "패션", "뷰티"],
+                  "recommendList": [1, 2, 3, 4, 5, 6, 7, 8]
+                }
+                """.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] loginResponseFromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(LoginResponseDto.from(user));
+    }
+
+    @Benchmark
+    public SignupRequestDto signupRequestDeserialize() throws Exception {
+        return objectMapper.readValue(signupRequestJson, SignupRequestDto.class);
+    }
+
+}
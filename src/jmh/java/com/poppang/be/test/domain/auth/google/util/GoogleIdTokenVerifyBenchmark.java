@@ -0,0 +1,82 @@
+package com.poppang.be.test.domain.auth.google.util;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+Google id_token 검증 비용 (로컬에서 서명한 토큰 + 고정 공개키 목록)
+- Google 은 보통 공개키 2~3개를 동시에 게시하므로, 서명 키가 목록 마지막에 있는 경우도 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GoogleIdTokenVerifyBenchmark {
+
+    private static final String CLIENT_ID = "bench.apps.googleusercontent.com";
+
+    private GoogleJwtVerifier signingKeyFirst;
+    private GoogleJwtVerifier signingKeyLast;
+    private String idToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        RSAKey signingKey = new RSAKeyGenerator(2048).keyID("google-kid-1").generate();
+        PublicKey otherKey = new RSAKeyGenerator(2048).keyID("google-kid-2").generate().toPublicKey();
+
+        List<PublicKey> first = List.of(signingKey.toPublicKey(), otherKey);
+        List<PublicKey> last = List.of(otherKey, signingKey.toPublicKey());
+
+        signingKeyFirst = new GoogleJwtVerifier(JacksonFactory.getDefaultInstance(), () -> first,
+                List.of(CLIENT_ID), 300, new SimpleMeterRegistry());
+        signingKeyLast = new GoogleJwtVerifier(JacksonFactory.getDefaultInstance(), () -> last,
+                List.of(CLIENT_ID), 300, new SimpleMeterRegistry());
+
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("google-kid-1").build(),
+                new JWTClaimsSet.Builder()
+                        .issuer("https://accounts.google.com")
+                        .audience(CLIENT_ID)
+                        .subject("109876543210987654321")
+                        .claim("email", "bench@gmail.com")
+                        .claim("email_verified", true)
+                        .issueTime(Date.from(now))
+                        .expirationTime(Date.from(now.plusSeconds(3600)))
+                        .build()
+        );
+        jwt.sign(new RSASSASigner(signingKey));
+        idToken = jwt.serialize();
+    }
+
+    @Benchmark
+    public GoogleIdToken.Payload verifySigningKeyFirst() throws Exception {
+        return signingKeyFirst.verify(idToken);
+    }
+
+    @Benchmark
+    public GoogleIdToken.Payload verifySigningKeyLast() throws Exception {
+        return signingKeyLast.verify(idToken);
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.poppang.be.test.domain.push.application;
+
+import com.poppang.be.test.domain.audience.infrastructure.AudienceSourceRepository.TargetRow;
+import com.poppang.be.test.domain.push.config.PushProperties;
+import com.poppang.be.test.domain.push.dto.PushMessage;
+import com.poppang.be.test.domain.push.dto.response.PushSendResponseDto;
+import com.poppang.be.test.domain.push.infrastructure.StubPushTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/*
+100만 명 fan-out 1회 소요 시간 (StubPushTransport, DB 없음)
+- 수신자는 메모리에서 바로 생성 (1,000 명 중 1 명은 무효 토큰)
+- 속도 제한은 사실상 끄고(아주 큰 값) 워커 수 / stub 지연에 따른 처리량만 측정
+- 초당 발송 수 = 1,000,000 / 측정 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PushFanoutBenchmark {
+
+    private static final int RECIPIENTS = 1_000_000;
+
+    @Param({"8", "32"})
+    private int workerThreads;
+
+    @Param({"0", "20"})
+    private int stubLatencyMillis;
+
+    private PushFanoutService pushFanoutService;
+    private final PushMessage message = new PushMessage("팝업 오픈", "관심 키워드 팝업이 열렸어요", Map.of("popupId", "1"));
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PushProperties properties = new PushProperties();
+        properties.setWorkerThreads(workerThreads);
+        properties.setMessagesPerSecond(1e12);
+        properties.getStub().setLatency(Duration.ofMillis(stubLatencyMillis));
+
+        PushTokenPruner pruner = new PushTokenPruner(null, null) {
+            @Override
+            public int prune(List<TargetRow> recipients) {
+                return recipients.size();
+            }
+        };
+        pushFanoutService = new PushFanoutService(
+                properties,
+                new StubPushTransport(properties),
+                pruner,
+                null,
+                null,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pushFanoutService.shutdown();
+    }
+
+    @Benchmark
+    public PushSendResponseDto fanOutOneMillion() {
+        return pushFanoutService.fanOut(message, recipients());
+    }
+
+    private static Iterator<TargetRow> recipients() {
+        return new Iterator<>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return next <= RECIPIENTS;
+            }
+
+            @Override
+            public TargetRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int id = next++;
+                String token = (id % 1_000 == 0 ? "invalid-" : "fcm-") + id;
+                return new TargetRow(id, "uid-" + id, token);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.poppang.be.test.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/*
+모바일 로그인 부하 테스트
+1) 지연(loadtest.stubDelayMs)을 주는 카카오 user info / access token info stub 서버를 띄움
+2) 실행 중인 서버에 /api/v1/auth/kakao/mobile/login 을 동시(loadtest.concurrency)로 호출
+3) 성공/실패 수, 처리량, p50/p99 지연, stub 에 동시에 도달한 최대 로그인 수 출력
+
+사용 예)
+  서버: ./gradlew bootRun --args='--kakao.app-id=1 --kakao.user-info-uri=http://localhost:18080/v2/user/me --kakao.access-token-info-uri=http://localhost:18080/v1/user/access_token_info'
+        (가상 스레드 비교 시 -Pjava21 + --spring.profiles.active=virtual-threads 추가)
+  부하: ./gradlew loginLoadTest -Ploadtest.concurrency=1000 -Ploadtest.stubDelayMs=500
+ */
+public class LoginLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String target = System.getProperty("loadtest.target", "http://localhost:8080");
+        int stubPort = Integer.getInteger("loadtest.stubPort", 18080);
+        long stubDelayMs = Long.getLong("loadtest.stubDelayMs", 200L);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 500);
+        int requests = Integer.getInteger("loadtest.requests", concurrency * 4);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        HttpServer stub = startKakaoStub(stubPort, stubDelayMs, inFlight, maxInFlight);
+
+        try {
+            run(target, concurrency, requests, stubDelayMs, maxInFlight);
+        } finally {
+            stub.stop(0);
+        }
+    }
+
+    private static void run(String target,
+                            int concurrency,
+                            int requests,
+                            long stubDelayMs,
+                            AtomicInteger maxInFlight) throws InterruptedException {
+        // workers 는 블로킹 send() 를 돌리는 풀이라 HttpClient 내부 executor 로 같이 쓰지 않음
+        // (모든 worker 가 send() 에서 대기하면 교환 시작 작업이 큐에 갇혀 영원히 멈춤)
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        AtomicLongArray latenciesNanos = new AtomicLongArray(requests);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            workers.execute(() -> {
+                long begin = System.nanoTime();
+                try {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(target + "/api/v1/auth/kakao/mobile/login"))
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"access_token\":\"load-" + index + "\"}"))
+                            .build();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() == 200) {
+                        success.incrementAndGet();
+                    } else {
+                        failure.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failure.incrementAndGet();
+                } finally {
+                    latenciesNanos.set(index, System.nanoTime() - begin);
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - start;
+        workers.shutdown();
+
+        long[] sorted = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            sorted[i] = latenciesNanos.get(i);
+        }
+        Arrays.sort(sorted);
+
+        System.out.printf("target=%s concurrency=%d requests=%d stubDelayMs=%d%n", target, concurrency, requests, stubDelayMs);
+        System.out.printf("success=%d failure=%d throughput=%.1f req/s%n",
+                success.get(), failure.get(), requests / (elapsedNanos / 1_000_000_000.0));
+        System.out.printf("p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99), sorted[requests - 1] / 1_000_000.0);
+        System.out.printf("max concurrent logins at provider=%d%n", maxInFlight.get());
+    }
+
+    private static HttpServer startKakaoStub(int port,
+                                             long delayMs,
+                                             AtomicInteger inFlight,
+                                             AtomicInteger maxInFlight) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 4096);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v2/user/me", exchange -> respond(exchange, delayMs, inFlight, maxInFlight,
+                id -> "{\"id\":" + id + ",\"kakao_account\":{}}"));
+        server.createContext("/v1/user/access_token_info", exchange -> respond(exchange, delayMs, inFlight, maxInFlight,
+                id -> "{\"id\":" + id + ",\"expires_in\":21599,\"app_id\":1}"));
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange,
+                                long delayMs,
+                                AtomicInteger inFlight,
+                                AtomicInteger maxInFlight,
+                                Function<String, String> bodyForId) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(delayMs);
+
+            // access_token 의 숫자를 카카오 id 로 사용 (요청마다 다른 유저)
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            String id = authorization == null ? "0" : authorization.replaceAll("\\D", "");
+            byte[] body = bodyForId.apply(id.isEmpty() ? "0" : id).getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.poppang.be.test.loadtest;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+기동 시간 벤치마크 (PoppangBeTestApplication)
+1) 변형(baseline / fast-startup / +CDS / +AOT)마다 startup.runs 번 앱을 새 프로세스로 띄움
+2) 로그의 "Tomcat started on port" 로 포트를 알아낸 뒤 /actuator/health/readiness 가 200 이 될 때까지 polling
+3) 프로세스 시작 ~ readiness 200 까지의 시간(time-to-ready), 그 시점의 RSS, Spring 이 찍는 "Started ... in" 시간을 중앙값으로 출력
+
+사용 예)
+  ./gradlew startupBenchmark -Pstartup.runs=5 -Pstartup.appArgs='--spring.datasource.url=jdbc:mysql://localhost:3306/poppang ...'
+  ./gradlew startupBenchmark -PfastStartup   (AOT 변형 포함)
+  readiness 는 ApplicationReadyEvent 의 캐시 warm-up 이 끝난 뒤라 DB 에 접속 가능한 설정이 필요
+  프로필이 local / dev / test 가 아니면 auth.session-token.keys 도 appArgs 로 넘겨야 함
+ */
+public class StartupBenchmark {
+
+    private static final Pattern PORT = Pattern.compile("Tomcat started on port (?:\\(s\\): )?(\\d+)");
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([\\d.]+) seconds");
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        File appDir = new File(System.getProperty("startup.appDir", "build/cds/app"));
+        String jar = System.getProperty("startup.jar");
+        int runs = Integer.getInteger("startup.runs", 5);
+        Duration timeout = Duration.ofSeconds(Long.getLong("startup.timeoutSeconds", 120L));
+        boolean aot = Boolean.getBoolean("startup.aot");
+        List<String> appArgs = tokenize(System.getProperty("startup.appArgs", ""));
+
+        if (jar == null) {
+            throw new IllegalArgumentException("startup.jar is required");
+        }
+        boolean cds = new File(appDir, "application.jsa").isFile();
+
+        Map<String, Variant> variants = new LinkedHashMap<>();
+        variants.put("baseline", new Variant(List.of(), List.of()));
+        variants.put("fast-startup", new Variant(List.of(), List.of("--spring.profiles.active=fast-startup")));
+        if (cds) {
+            variants.put("fast-startup+cds", new Variant(
+                    List.of("-XX:SharedArchiveFile=application.jsa"),
+                    List.of("--spring.profiles.active=fast-startup")));
+        }
+        if (cds && aot) {
+            variants.put("fast-startup+cds+aot", new Variant(
+                    List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true"),
+                    List.of("--spring.profiles.active=fast-startup")));
+        }
+
+        System.out.printf("jar=%s runs=%d cds=%s aot=%s%n", jar, runs, cds, aot);
+        for (Map.Entry<String, Variant> variant : variants.entrySet()) {
+            long[] readyMillis = new long[runs];
+            long[] rssKb = new long[runs];
+            double[] startedSeconds = new double[runs];
+
+            for (int i = 0; i < runs; i++) {
+                Result result = startOnce(java, appDir, jar, variant.getValue(), appArgs, timeout);
+                readyMillis[i] = result.readyMillis();
+                rssKb[i] = result.rssKb();
+                startedSeconds[i] = result.startedSeconds();
+            }
+
+            Arrays.sort(readyMillis);
+            Arrays.sort(rssKb);
+            Arrays.sort(startedSeconds);
+            System.out.printf("%-22s time-to-ready=%d ms  spring-started=%.2f s  rss=%.1f MB  (median of %d)%n",
+                    variant.getKey(), readyMillis[runs / 2], startedSeconds[runs / 2], rssKb[runs / 2] / 1024.0, runs);
+        }
+    }
+
+    private static Result startOnce(String java,
+                                    File appDir,
+                                    String jar,
+                                    Variant variant,
+                                    List<String> appArgs,
+                                    Duration timeout) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(variant.jvmArgs());
+        command.add("-jar");
+        command.add(jar);
+        command.add("--server.port=0");
+        command.add("--management.endpoint.health.probes.enabled=true");
+        command.addAll(variant.appArgs());
+        command.addAll(appArgs);
+
+        long begin = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(appDir)
+                .redirectErrorStream(true)
+                .start();
+        try {
+            CompletableFuture<Integer> port = new CompletableFuture<>();
+            CompletableFuture<Double> started = new CompletableFuture<>();
+            Thread reader = new Thread(() -> readLog(process, port, started), "startup-log");
+            reader.setDaemon(true);
+            reader.start();
+
+            long deadline = begin + timeout.toNanos();
+            int serverPort = port.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            awaitReady(serverPort, deadline);
+            long readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+            return new Result(readyMillis, rss(process.pid()), started.getNow(Double.NaN));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    // 로그는 끝까지 읽어서 버림 (파이프가 차서 앱이 멈추지 않도록)
+    private static void readLog(Process process, CompletableFuture<Integer> port, CompletableFuture<Double> started) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher portMatcher = PORT.matcher(line);
+                if (portMatcher.find()) {
+                    port.complete(Integer.parseInt(portMatcher.group(1)));
+                }
+                Matcher startedMatcher = STARTED.matcher(line);
+                if (startedMatcher.find()) {
+                    started.complete(Double.parseDouble(startedMatcher.group(1)));
+                }
+            }
+        } catch (IOException ignored) {
+            // 프로세스 종료
+        }
+        port.completeExceptionally(new IllegalStateException("Application exited before the web server started"));
+    }
+
+    private static void awaitReady(int port, long deadlineNanos) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(1))
+                .GET()
+                .build();
+
+        while (System.nanoTime() < deadlineNanos) {
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 아직 요청을 받지 못함
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Application did not become ready on port " + port);
+    }
+
+    // 상주 메모리 (KB): Linux 는 /proc, 그 외는 ps
+    private static long rss(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (Files.isReadable(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        }
+
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", String.valueOf(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+
+    private static List<String> tokenize(String value) {
+        return value.isBlank() ? List.of() : List.of(value.trim().split("\\s+"));
+    }
+
+    private record Variant(List<String> jvmArgs, List<String> appArgs) {
+    }
+
+    private record Result(long readyMillis, long rssKb, double startedSeconds) {
+    }
+
+}
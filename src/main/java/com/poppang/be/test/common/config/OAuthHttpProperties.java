@@ -0,0 +1,77 @@
+package com.poppang.be.test.common.config;
+
+import com.poppang.be.test.domain.users.entity.Provider;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "oauth.http")
+public class OAuthHttpProperties {
+
+    // provider 별 설정에서 지정하지 않은 항목은 defaults 값 사용 (항목 단위로 병합)
+    private Pool defaults = Pool.defaults();
+    private Map<Provider, Pool> providers = new EnumMap<>(Provider.class);
+
+    public Pool pool(Provider provider) {
+        Pool pool = providers.get(provider);
+        return (pool == null) ? defaults : pool.mergedWith(defaults);
+    }
+
+    // 바인딩 전에는 모든 항목이 null (= 지정 안 함), defaults 만 기본값으로 채워서 시작
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private Integer maxConnections;
+        private Integer maxConnectionsPerRoute;
+
+        private Duration connectTimeout;
+        private Duration readTimeout;
+
+        // 풀에서 커넥션을 빌릴 때 최대 대기 시간
+        private Duration connectionRequestTimeout;
+
+        private Duration idleTimeout;
+        private Duration timeToLive;
+
+        // non-blocking(WebClient) 경로에서 HTTP/2 협상 여부 (평문 http stub 에는 false)
+        private Boolean http2;
+
+        static Pool defaults() {
+            Pool pool = new Pool();
+            pool.maxConnections = 50;
+            pool.maxConnectionsPerRoute = 20;
+            pool.connectTimeout = Duration.ofSeconds(2);
+            pool.readTimeout = Duration.ofSeconds(3);
+            pool.connectionRequestTimeout = Duration.ofSeconds(1);
+            pool.idleTimeout = Duration.ofSeconds(30);
+            pool.timeToLive = Duration.ofMinutes(5);
+            pool.http2 = true;
+            return pool;
+        }
+
+        Pool mergedWith(Pool fallback) {
+            Pool merged = new Pool();
+            merged.maxConnections = Objects.requireNonNullElse(maxConnections, fallback.maxConnections);
+            merged.maxConnectionsPerRoute = Objects.requireNonNullElse(maxConnectionsPerRoute, fallback.maxConnectionsPerRoute);
+            merged.connectTimeout = Objects.requireNonNullElse(connectTimeout, fallback.connectTimeout);
+            merged.readTimeout = Objects.requireNonNullElse(readTimeout, fallback.readTimeout);
+            merged.connectionRequestTimeout = Objects.requireNonNullElse(connectionRequestTimeout, fallback.connectionRequestTimeout);
+            merged.idleTimeout = Objects.requireNonNullElse(idleTimeout, fallback.idleTimeout);
+            merged.timeToLive = Objects.requireNonNullElse(timeToLive, fallback.timeToLive);
+            merged.http2 = Objects.requireNonNullElse(http2, fallback.http2);
+            return merged;
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.poppang.be.test.common.config;
+
+import com.poppang.be.test.domain.users.entity.Provider;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "oauth.resilience")
+public class OAuthResilienceProperties {
+
+    // provider 별 설정이 없으면 defaults 사용
+    private Guard defaults = new Guard();
+    private Map<Provider, Guard> providers = new EnumMap<>(Provider.class);
+
+    public Guard guard(Provider provider) {
+        return providers.getOrDefault(provider, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Guard {
+
+        // bulkhead: provider 당 동시 호출 상한 / 자리가 날 때까지 최대 대기 시간
+        private int maxConcurrentCalls = 20;
+        private Duration maxWaitDuration = Duration.ofMillis(200);
+
+        // circuit breaker: 최근 slidingWindowSize 건 중 실패율 / 느린 호출 비율이 임계치를 넘으면 open
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+        private float failureRateThreshold = 50f;
+        private float slowCallRateThreshold = 80f;
+        private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+        // open 유지 시간 / half-open 에서 시험 삼아 보낼 호출 수
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedNumberOfCallsInHalfOpenState = 5;
+
+    }
+
+}
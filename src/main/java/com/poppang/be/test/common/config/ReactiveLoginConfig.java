@@ -0,0 +1,21 @@
+package com.poppang.be.test.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactiveLoginConfig {
+
+    // non-blocking 로그인 체인에서 유일한 블로킹 단계(JPA upsert)를 격리하는 bounded 스케줄러
+    @Bean(destroyMethod = "dispose")
+    public Scheduler loginDbScheduler(ReactiveLoginProperties reactiveLoginProperties) {
+        return Schedulers.newBoundedElastic(
+                reactiveLoginProperties.getDbThreadCap(),
+                reactiveLoginProperties.getDbQueueCap(),
+                "login-db"
+        );
+    }
+
+}
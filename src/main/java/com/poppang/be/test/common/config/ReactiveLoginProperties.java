@@ -0,0 +1,25 @@
+package com.poppang.be.test.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "oauth.reactive")
+public class ReactiveLoginProperties {
+
+    // 단계별 timeout (토큰 교환 / 프로필 조회·id_token 검증 / DB upsert)
+    private Duration tokenExchangeTimeout = Duration.ofSeconds(3);
+    private Duration profileTimeout = Duration.ofSeconds(3);
+    private Duration upsertTimeout = Duration.ofSeconds(2);
+
+    // JPA upsert 전용 스케줄러 크기 (Hikari 풀 크기 정도로 제한)
+    private int dbThreadCap = 10;
+    private int dbQueueCap = 1000;
+
+}
@@ -0,0 +1,84 @@
+package com.poppang.be.test.common.config;
+
+import com.poppang.be.test.common.datasource.ReadWriteRoutingDataSource;
+import com.poppang.be.test.common.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+읽기 전용 트랜잭션을 replica 로 보내는 DataSource 구성 (datasource.replica.enabled=true 일 때만)
+- primary: spring.datasource / spring.datasource.hikari 그대로
+- replica: datasource.replica.nodes (read-only Hikari 풀)
+- JPA / JdbcTemplate 이 쓰는 DataSource 는 LazyConnectionDataSourceProxy(라우팅) 하나
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // replica 풀은 빈으로 등록하지 않으므로 라우팅 DataSource 가 종료 시 함께 닫음
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                 ReplicaDataSourceProperties replicaDataSourceProperties,
+                                                                 MeterRegistry meterRegistry) {
+        List<ReplicaDataSourceProperties.Node> nodes = replicaDataSourceProperties.getNodes();
+        if (nodes.isEmpty()) {
+            throw new IllegalStateException("datasource.replica.enabled=true but no datasource.replica.nodes configured");
+        }
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            replicas.put("replica-" + i, replica("replica-" + i, nodes.get(i)));
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadWriteRoutingDataSource readWriteRoutingDataSource,
+                                               ReplicaDataSourceProperties replicaDataSourceProperties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(readWriteRoutingDataSource, replicaDataSourceProperties, meterRegistry);
+    }
+
+    private static HikariDataSource replica(String poolName, ReplicaDataSourceProperties.Node node) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(poolName);
+        dataSource.setJdbcUrl(node.getUrl());
+        dataSource.setUsername(node.getUsername());
+        dataSource.setPassword(node.getPassword());
+        if (node.getDriverClassName() != null) {
+            dataSource.setDriverClassName(node.getDriverClassName());
+        }
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.poppang.be.test.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    // false 면 spring.datasource 하나만 사용 (기존 동작)
+    private boolean enabled = false;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    // 복제 지연이 이보다 크면 해당 replica 로 보내지 않음
+    private Duration maxLag = Duration.ofSeconds(1);
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+    // 복제 지연(초) 조회 쿼리 / 컬럼 (값이 NULL 이면 복제 중단으로 보고 제외)
+    private String lagQuery = "SHOW REPLICA STATUS";
+    private String lagColumn = "Seconds_Behind_Source";
+
+    @Getter
+    @Setter
+    public static class Node {
+
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+
+        private int maximumPoolSize = 10;
+
+    }
+
+}
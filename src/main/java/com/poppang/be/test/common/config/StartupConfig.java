@@ -0,0 +1,38 @@
+package com.poppang.be.test.common.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/*
+기동 시간 단축 (fast-startup 프로필의 spring.main.lazy-initialization=true 와 함께 동작)
+- 지연 초기화 대상은 provider(카카오 / 애플 / 구글) 로그인 빈, 이를 주입받는 AuthController, Google API client 뿐
+  나머지는 기존처럼 기동 시 생성
+  (캐시 warm-up / @Scheduled / 이벤트 리스너가 있는 빈까지 지연되면 첫 요청이 느려지거나 주기 작업이 시작되지 않음)
+- provider 빈은 첫 /api/v1/auth 요청에서 AuthController 와 함께 생성 (.p8 키 파싱, JWKS / Google certs 클라이언트 구성 등)
+- 주입 지점에 @Lazy 를 두지 않으므로 다른 프로필에서는 배선 오류가 그대로 기동 시 드러남
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final List<String> LAZY_PACKAGES = List.of(
+            "com.poppang.be.test.domain.auth.kakao.",
+            "com.poppang.be.test.domain.auth.apple.",
+            "com.poppang.be.test.domain.auth.google.",
+            "com.poppang.be.test.domain.auth.presentation.AuthController",
+            "com.google.api.client."
+    );
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerUnlessProvider() {
+        return (beanName, beanDefinition, beanType) -> beanType == null || !isProvider(beanType);
+    }
+
+    private static boolean isProvider(Class<?> beanType) {
+        String name = beanType.getName();
+        return LAZY_PACKAGES.stream().anyMatch(name::startsWith);
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.poppang.be.test.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+primary / replica 라우팅
+- @Transactional(readOnly = true) 안에서 처음 커넥션을 잡을 때 복제 지연이 허용 범위인 replica 로 (round robin)
+- 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary
+- 같은 요청에서 이미 쓰기 트랜잭션이 커넥션을 잡았으면 이후 읽기도 primary (read-your-writes)
+- 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 판단해야 readOnly 플래그가 보이므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private static final String WROTE_ATTRIBUTE = ReadWriteRoutingDataSource.class.getName() + ".WROTE";
+
+    @Getter
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter primaryWrites;
+    private final Counter primaryReadYourWrites;
+    private final Counter primaryFallbacks;
+    private final Counter replicaReads;
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        targets.putAll(replicas);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+
+        this.primaryWrites = routes(meterRegistry, PRIMARY, "write");
+        this.primaryReadYourWrites = routes(meterRegistry, PRIMARY, "read_your_writes");
+        this.primaryFallbacks = routes(meterRegistry, PRIMARY, "replica_unavailable");
+        this.replicaReads = routes(meterRegistry, "replica", "read");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                markWritten();
+            }
+            primaryWrites.increment();
+            return PRIMARY;
+        }
+
+        if (hasWritten()) {
+            primaryReadYourWrites.increment();
+            return PRIMARY;
+        }
+
+        Replica replica = pickReplica();
+        if (replica == null) {
+            primaryFallbacks.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica.getKey();
+    }
+
+    // replica 풀만 닫음 (primary 는 별도 빈)
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.getDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica {}", replica.getKey(), e);
+                }
+            }
+        }
+    }
+
+    // 지연이 허용 범위인 replica 중 round robin, 없으면 null
+    private Replica pickReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // 요청 범위에서만 기억 (스케줄러 등 요청 밖에서는 기억하지 않음)
+    private static void markWritten() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(WROTE_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private static boolean hasWritten() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null && attributes.getAttribute(WROTE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+    }
+
+    private static Counter routes(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // replica 상태 (ReplicaLagMonitor 가 갱신, 첫 확인 전에는 사용하지 않음)
+    @Getter
+    public static class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+
+        private volatile boolean available = false;
+        private volatile double lagSeconds = Double.NaN;
+
+        Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        void update(boolean available, double lagSeconds) {
+            if (this.available != available) {
+                log.info("Replica {} is now {} (lag {}s)", key, available ? "in rotation" : "out of rotation", lagSeconds);
+            }
+            this.available = available;
+            this.lagSeconds = lagSeconds;
+        }
+
+    }
+
+}
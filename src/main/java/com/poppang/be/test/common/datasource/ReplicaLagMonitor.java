@@ -0,0 +1,80 @@
+package com.poppang.be.test.common.datasource;
+
+import com.poppang.be.test.common.config.ReplicaDataSourceProperties;
+import com.poppang.be.test.common.datasource.ReadWriteRoutingDataSource.Replica;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/*
+replica 복제 지연 확인
+- datasource.replica.lag-check-interval 마다 각 replica 에 lag-query 를 실행해 lag-column(초) 을 읽음
+- 지연이 max-lag 이하면 라우팅 대상, 초과 / NULL(복제 중단) / 조회 실패면 제외 (→ primary 로 fallback)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final ReplicaDataSourceProperties replicaDataSourceProperties;
+
+    public ReplicaLagMonitor(ReadWriteRoutingDataSource routingDataSource,
+                             ReplicaDataSourceProperties replicaDataSourceProperties,
+                             MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.replicaDataSourceProperties = replicaDataSourceProperties;
+
+        for (Replica replica : routingDataSource.getReplicas()) {
+            Gauge.builder("datasource.replica.lag", replica, Replica::getLagSeconds)
+                    .tag("replica", replica.getKey())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        checkAll();
+    }
+
+    @Scheduled(
+            initialDelayString = "${datasource.replica.lag-check-interval:PT1S}",
+            fixedDelayString = "${datasource.replica.lag-check-interval:PT1S}"
+    )
+    public void checkAll() {
+        double maxLagSeconds = replicaDataSourceProperties.getMaxLag().toMillis() / 1_000.0;
+
+        for (Replica replica : routingDataSource.getReplicas()) {
+            double lag = lagSeconds(replica);
+            replica.update(!Double.isNaN(lag) && lag <= maxLagSeconds, lag);
+        }
+    }
+
+    // 복제 지연(초), 알 수 없으면 NaN
+    private double lagSeconds(Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(replicaDataSourceProperties.getLagQuery())) {
+            if (!rs.next()) {
+                return Double.NaN;
+            }
+            double lag = rs.getDouble(replicaDataSourceProperties.getLagColumn());
+            return rs.wasNull() ? Double.NaN : lag;
+        } catch (Exception e) {
+            // 이미 제외된 replica 는 확인할 때마다 남기지 않음
+            if (replica.isAvailable()) {
+                log.warn("Failed to check replication lag of {}", replica.getKey(), e);
+            } else {
+                log.debug("Failed to check replication lag of {}: {}", replica.getKey(), e.toString());
+            }
+            return Double.NaN;
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.poppang.be.test.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 로그인 경로 (메트릭 channel 태그 값)
+@Getter
+@RequiredArgsConstructor
+public enum LoginChannel {
+
+    WEB("web"),
+    MOBILE("mobile");
+
+    private final String tag;
+
+}
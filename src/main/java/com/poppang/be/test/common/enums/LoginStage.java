@@ -0,0 +1,18 @@
+package com.poppang.be.test.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 로그인 단계 (메트릭 stage 태그 값, SLO 알람에서 쓰므로 값 변경 금지)
+@Getter
+@RequiredArgsConstructor
+public enum LoginStage {
+
+    TOKEN_EXCHANGE("token_exchange"),     // code -> access_token
+    USER_INFO("user_info"),               // access_token -> user info
+    ID_TOKEN_VERIFY("id_token_verify"),   // id_token 서명/클레임 검증 (JWKS 조회 포함)
+    UPSERT("upsert");                     // users upsert (DB)
+
+    private final String tag;
+
+}
@@ -0,0 +1,115 @@
+package com.poppang.be.test.common.http;
+
+import com.poppang.be.test.common.config.OAuthResilienceProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/*
+OAuth provider 호출 보호 (provider 별로 분리 → 한 provider 장애가 다른 provider 로그인에 번지지 않음)
+- bulkhead: 동시 호출 수 제한, 자리가 없으면 maxWaitDuration 만큼만 기다리고 실패
+- circuit breaker: 실패율 / 느린 호출 비율이 높으면 open → provider 를 부르지 않고 바로 실패
+- 4xx(잘못된 code / token 등 클라이언트 문제)는 provider 장애로 보지 않음
+- 상태 지표: resilience4j.circuitbreaker.* / resilience4j.bulkhead.* (name = oauth-<provider>)
+ */
+@Component
+public class OAuthCallGuard {
+
+    private final Map<Provider, CircuitBreaker> circuitBreakers = new EnumMap<>(Provider.class);
+    private final Map<Provider, Bulkhead> bulkheads = new EnumMap<>(Provider.class);
+
+    public OAuthCallGuard(OAuthResilienceProperties oAuthResilienceProperties, MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+        for (Provider provider : Provider.values()) {
+            OAuthResilienceProperties.Guard guard = oAuthResilienceProperties.guard(provider);
+            String name = "oauth-" + provider.name().toLowerCase();
+
+            CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                    .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                    .slidingWindowSize(guard.getSlidingWindowSize())
+                    .minimumNumberOfCalls(guard.getMinimumNumberOfCalls())
+                    .failureRateThreshold(guard.getFailureRateThreshold())
+                    .slowCallRateThreshold(guard.getSlowCallRateThreshold())
+                    .slowCallDurationThreshold(guard.getSlowCallDurationThreshold())
+                    .waitDurationInOpenState(guard.getWaitDurationInOpenState())
+                    .permittedNumberOfCallsInHalfOpenState(guard.getPermittedNumberOfCallsInHalfOpenState())
+                    .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                    .recordException(OAuthCallGuard::isProviderFailure)
+                    .build();
+
+            BulkheadConfig bulkheadConfig = BulkheadConfig.custom()
+                    .maxConcurrentCalls(guard.getMaxConcurrentCalls())
+                    .maxWaitDuration(guard.getMaxWaitDuration())
+                    .build();
+
+            circuitBreakers.put(provider, circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig));
+            bulkheads.put(provider, bulkheadRegistry.bulkhead(name, bulkheadConfig));
+        }
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    // 블로킹 호출 (RestTemplate)
+    public <T> T execute(Provider provider, Supplier<T> call) {
+        Supplier<T> guarded = CircuitBreaker.decorateSupplier(
+                circuitBreakers.get(provider),
+                Bulkhead.decorateSupplier(bulkheads.get(provider), call)
+        );
+
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw rejected(provider, e);
+        }
+    }
+
+    // non-blocking 호출 (WebClient): bulkhead 는 대기 없이 바로 거절
+    public <T> Mono<T> execute(Provider provider, Mono<T> call) {
+        return call
+                .transformDeferred(BulkheadOperator.of(bulkheads.get(provider)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(provider)))
+                .onErrorMap(e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                        e -> rejected(provider, e));
+    }
+
+    public CircuitBreaker.State state(Provider provider) {
+        return circuitBreakers.get(provider).getState();
+    }
+
+    private static IllegalStateException rejected(Provider provider, Throwable cause) {
+        return new IllegalStateException(provider.name() + " login is temporarily unavailable", cause);
+    }
+
+    private static boolean isProviderFailure(Throwable e) {
+        if (e instanceof HttpClientErrorException) {
+            return false;
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return !responseException.getStatusCode().is4xxClientError();
+        }
+        return true;
+    }
+
+}
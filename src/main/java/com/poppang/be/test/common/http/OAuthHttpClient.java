@@ -0,0 +1,118 @@
+package com.poppang.be.test.common.http;
+
+import com.poppang.be.test.common.config.OAuthHttpProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+OAuth provider(카카오/구글/애플) 호출용 공용 HTTP 클라이언트
+- provider 별로 커넥션 풀 분리 (한 provider 가 느려져도 다른 provider 풀은 영향 없음)
+- keep-alive 커넥션 재사용 + connect/read/풀 대기 timeout 적용
+- 풀 단위 지표(httpcomponents.httpclient.pool.*) + host 단위 지표(oauth.http.pool.route.connections)
+ */
+@Component
+public class OAuthHttpClient implements DisposableBean {
+
+    private final Map<Provider, RestTemplate> restTemplates = new EnumMap<>(Provider.class);
+    private final Map<Provider, PoolingHttpClientConnectionManager> connectionManagers = new EnumMap<>(Provider.class);
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+
+    private final MultiGauge routeConnections;
+
+    public OAuthHttpClient(OAuthHttpProperties oAuthHttpProperties, MeterRegistry meterRegistry) {
+        for (Provider provider : Provider.values()) {
+            OAuthHttpProperties.Pool pool = oAuthHttpProperties.pool(provider);
+
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(pool.getMaxConnections())
+                    .setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeout().toMillis()))
+                            .setSocketTimeout(Timeout.ofMilliseconds(pool.getReadTimeout().toMillis()))
+                            .setTimeToLive(TimeValue.ofMilliseconds(pool.getTimeToLive().toMillis()))
+                            .build())
+                    .build();
+
+            CloseableHttpClient httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager)
+                    .setDefaultRequestConfig(RequestConfig.custom()
+                            .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getConnectionRequestTimeout().toMillis()))
+                            .setResponseTimeout(Timeout.ofMilliseconds(pool.getReadTimeout().toMillis()))
+                            .build())
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleTimeout().toMillis()))
+                    .build();
+
+            new PoolingHttpClientConnectionManagerMetricsBinder(
+                    connectionManager,
+                    "oauth-" + tagValue(provider),
+                    Tags.of("provider", tagValue(provider))
+            ).bindTo(meterRegistry);
+
+            connectionManagers.put(provider, connectionManager);
+            httpClients.add(httpClient);
+            restTemplates.put(provider, new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient)));
+        }
+
+        this.routeConnections = MultiGauge.builder("oauth.http.pool.route.connections")
+                .description("OAuth provider connection pool usage per host")
+                .register(meterRegistry);
+    }
+
+    public RestTemplate restTemplate(Provider provider) {
+        return restTemplates.get(provider);
+    }
+
+    // host(route) 별 leased / available / pending 커넥션 수 갱신
+    @Scheduled(fixedDelayString = "${oauth.http.route-metrics-interval:PT15S}")
+    public void publishRouteMetrics() {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        connectionManagers.forEach((provider, connectionManager) -> {
+            for (HttpRoute route : connectionManager.getRoutes()) {
+                PoolStats stats = connectionManager.getStats(route);
+                Tags tags = Tags.of("provider", tagValue(provider), "host", route.getTargetHost().getHostName());
+
+                rows.add(MultiGauge.Row.of(tags.and("state", "leased"), stats.getLeased()));
+                rows.add(MultiGauge.Row.of(tags.and("state", "available"), stats.getAvailable()));
+                rows.add(MultiGauge.Row.of(tags.and("state", "pending"), stats.getPending()));
+            }
+        });
+        routeConnections.register(rows, true);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (CloseableHttpClient httpClient : httpClients) {
+            httpClient.close();
+        }
+    }
+
+    private static String tagValue(Provider provider) {
+        return provider.name().toLowerCase();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.poppang.be.test.common.http;
+
+import com.poppang.be.test.common.config.OAuthHttpProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+OAuth provider 호출용 non-blocking WebClient
+- OAuthHttpClient 와 같은 provider 별 풀 설정(oauth.http.*)을 reactor-netty 커넥션 풀에 적용
+- http2 가 켜진 풀은 TLS ALPN 으로 HTTP/2 를 협상하고, 지원하지 않는 서버는 HTTP/1.1 사용
+ */
+@Component
+public class OAuthWebClient implements DisposableBean {
+
+    private final Map<Provider, WebClient> webClients = new EnumMap<>(Provider.class);
+    private final List<ConnectionProvider> connectionProviders = new ArrayList<>();
+
+    public OAuthWebClient(OAuthHttpProperties oAuthHttpProperties, WebClient.Builder webClientBuilder) {
+        for (Provider provider : Provider.values()) {
+            OAuthHttpProperties.Pool pool = oAuthHttpProperties.pool(provider);
+
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth-reactive-" + provider.name().toLowerCase())
+                    .maxConnections(pool.getMaxConnections())
+                    .pendingAcquireTimeout(pool.getConnectionRequestTimeout())
+                    .maxIdleTime(pool.getIdleTimeout())
+                    .maxLifeTime(pool.getTimeToLive())
+                    .metrics(true)
+                    .build();
+
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                    .responseTimeout(pool.getReadTimeout());
+            if (pool.getHttp2()) {
+                httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+            }
+
+            connectionProviders.add(connectionProvider);
+            webClients.put(provider, webClientBuilder.clone()
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .build());
+        }
+    }
+
+    public WebClient webClient(Provider provider) {
+        return webClients.get(provider);
+    }
+
+    @Override
+    public void destroy() {
+        connectionProviders.forEach(ConnectionProvider::dispose);
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.poppang.be.test.common.metrics;
+
+import com.poppang.be.test.common.enums.LoginChannel;
+import com.poppang.be.test.common.enums.LoginStage;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/*
+로그인 단계별 지연 시간
+- auth.login        : 로그인 전체 (provider, channel, outcome)
+- auth.login.stage  : 단계별 (provider, channel, stage, outcome)
+- percentile histogram 을 켜 두어 Prometheus 에서 histogram_quantile 로 p95/p99 계산
+- outcome: success / failure / timeout (Mono 가 취소되면 cancelled)
+ */
+@Component
+public class LoginMetrics {
+
+    private final Meter.MeterProvider<Timer> loginTimers;
+    private final Meter.MeterProvider<Timer> stageTimers;
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.loginTimers = Timer.builder("auth.login")
+                .description("OAuth login latency")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+        this.stageTimers = Timer.builder("auth.login.stage")
+                .description("OAuth login latency per stage")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    public <T, E extends Exception> T login(Provider provider, LoginChannel channel, StageCall<T, E> call) throws E {
+        return timed(loginTimers, tags(provider, channel), call);
+    }
+
+    public <T, E extends Exception> T stage(Provider provider,
+                                            LoginChannel channel,
+                                            LoginStage stage,
+                                            StageCall<T, E> call) throws E {
+        return timed(stageTimers, tags(provider, channel).and("stage", stage.getTag()), call);
+    }
+
+    public <T> Mono<T> login(Provider provider, LoginChannel channel, Mono<T> mono) {
+        return timed(loginTimers, tags(provider, channel), mono);
+    }
+
+    public <T> Mono<T> stage(Provider provider, LoginChannel channel, LoginStage stage, Mono<T> mono) {
+        return timed(stageTimers, tags(provider, channel).and("stage", stage.getTag()), mono);
+    }
+
+    private <T, E extends Exception> T timed(Meter.MeterProvider<Timer> timers, Tags tags, StageCall<T, E> call) throws E {
+        long start = System.nanoTime();
+        String outcome = "failure";
+        try {
+            T result = call.call();
+            outcome = "success";
+            return result;
+        } catch (Exception e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            record(timers, tags, outcome, start);
+        }
+    }
+
+    private <T> Mono<T> timed(Meter.MeterProvider<Timer> timers, Tags tags, Mono<T> mono) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return mono
+                    .doOnSuccess(value -> record(timers, tags, "success", start))
+                    .doOnError(e -> record(timers, tags, outcome(e), start))
+                    .doOnCancel(() -> record(timers, tags, "cancelled", start));
+        });
+    }
+
+    private static void record(Meter.MeterProvider<Timer> timers, Tags tags, String outcome, long start) {
+        timers.withTags(tags.and("outcome", outcome))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(Throwable e) {
+        // Mono.timeout → TimeoutException, RestTemplate read timeout → ResourceAccessException(SocketTimeoutException)
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException) {
+                return "timeout";
+            }
+        }
+        return "failure";
+    }
+
+    private static Tags tags(Provider provider, LoginChannel channel) {
+        return Tags.of("provider", provider.name().toLowerCase(), "channel", channel.getTag());
+    }
+
+    @FunctionalInterface
+    public interface StageCall<T, E extends Exception> {
+
+        T call() throws E;
+
+    }
+
+}
@@ -0,0 +1,346 @@
+package com.poppang.be.test.domain.audience.application;
+
+import com.poppang.be.test.domain.audience.config.AudienceIndexProperties;
+import com.poppang.be.test.domain.audience.infrastructure.AudienceSourceRepository;
+import com.poppang.be.test.domain.audience.infrastructure.AudienceSourceRepository.TargetRow;
+import com.poppang.be.test.domain.users.entity.SignupCompletedEvent;
+import com.poppang.be.test.domain.users.entity.UsersChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/*
+푸시 타게팅 인덱스 (Roaring bitmap, 유저 id = bit)
+- 키워드별 bitmap + 알림 동의(alerted) / 탈퇴(deleted) bitmap, AND / OR / NOT 은 bitmap 연산으로 평가
+- 기동 시 users / user_keyword 로 전체 구축, 이후 가입 / 프로필 변경 이벤트로 증분 갱신
+- 다른 인스턴스의 변경은 audience.index.rebuild-interval 마다 전체 재구축으로 반영
+- bitmap 은 thread-safe 하지 않아 조회는 read lock, 갱신은 write lock (조회는 결과 bitmap 을 새로 만들어 반환)
+ */
+@Slf4j
+@Component
+public class AudienceIndex {
+
+    private final AudienceSourceRepository audienceSourceRepository;
+    private final AudienceIndexProperties audienceIndexProperties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock 으로 보호
+    private Bitmaps bitmaps = new Bitmaps();
+    private boolean rebuilding = false;
+    private final List<Consumer<Bitmaps>> pendingDuringRebuild = new ArrayList<>();
+
+    public AudienceIndex(AudienceSourceRepository audienceSourceRepository,
+                         AudienceIndexProperties audienceIndexProperties) {
+        this.audienceSourceRepository = audienceSourceRepository;
+        this.audienceIndexProperties = audienceIndexProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    @Scheduled(
+            initialDelayString = "${audience.index.rebuild-interval:PT1H}",
+            fixedDelayString = "${audience.index.rebuild-interval:PT1H}"
+    )
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild audience index, keep serving the current one", e);
+        }
+    }
+
+    /**
+     * 전체 재구축: DB 에서 새 bitmap 을 만든 뒤 교체
+     * 구축 중에 들어온 증분 갱신은 현재 bitmap 에 바로 반영하고, 교체 직후 새 bitmap 에 한 번 더 적용 (멱등)
+     */
+    public synchronized void rebuild() {
+        writeLocked(() -> {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        });
+
+        Bitmaps rebuilt = loadOrAbort();
+        writeLocked(() -> {
+            pendingDuringRebuild.forEach(update -> update.accept(rebuilt));
+            pendingDuringRebuild.clear();
+            rebuilding = false;
+            bitmaps = rebuilt;
+        });
+        log.info("Rebuilt audience index: {} users, {} keywords, {} bytes",
+                rebuilt.users.getCardinality(), rebuilt.keywords.size(), rebuilt.sizeInBytes());
+    }
+
+    /* ---------- 증분 갱신 ---------- */
+
+    // 가입 완료 (커밋 이후): 키워드 + 알림 동의
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSignupCompleted(SignupCompletedEvent event) {
+        upsertUser(event.userId(), event.alerted(), false);
+        addKeywords(event.userId(), event.keywordIds());
+    }
+
+    // 프로필 수정 / 탈퇴 (커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        if (event.id() != null) {
+            upsertUser(event.id(), event.alerted(), event.deleted());
+        }
+    }
+
+    public void upsertUser(long userId, boolean alerted, boolean deleted) {
+        int bit = toBit(userId);
+        update(target -> {
+            target.users.add(bit);
+            set(target.alerted, bit, alerted);
+            set(target.deleted, bit, deleted);
+        });
+    }
+
+    public void addKeywords(long userId, Collection<Integer> keywordIds) {
+        if (keywordIds.isEmpty()) {
+            return;
+        }
+        int bit = toBit(userId);
+        update(target -> {
+            target.users.add(bit);
+            for (Integer keywordId : keywordIds) {
+                target.keywords.computeIfAbsent(keywordId, id -> new RoaringBitmap()).add(bit);
+            }
+        });
+    }
+
+    /* ---------- 조회 ---------- */
+
+    // 조건에 맞는 유저 bitmap (호출한 쪽 소유의 새 bitmap)
+    public RoaringBitmap select(AudienceQuery query) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = evaluate(bitmaps, query);
+            return bitmaps.isShared(result) ? result.clone() : result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int count(AudienceQuery query) {
+        return select(query).getCardinality();
+    }
+
+    // 조건에 맞는 유저 id (오름차순)
+    public IntStream userIds(AudienceQuery query) {
+        return select(query).stream();
+    }
+
+    /**
+     * 조건에 맞는 유저의 FCM 토큰 (id 오름차순, 토큰이 없는 유저 제외)
+     * target-batch-size 명씩 묶어서 소비하는 만큼만 DB 에서 읽음
+     */
+    public Stream<TargetRow> targets(AudienceQuery query) {
+        IntIterator ids = select(query).getIntIterator();
+        int batchSize = audienceIndexProperties.getTargetBatchSize();
+
+        Iterator<List<TargetRow>> batches = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ids.hasNext();
+            }
+
+            @Override
+            public List<TargetRow> next() {
+                if (!ids.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Integer> batch = new ArrayList<>(batchSize);
+                while (ids.hasNext() && batch.size() < batchSize) {
+                    batch.add(ids.next());
+                }
+                return audienceSourceRepository.findTargets(batch);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream);
+    }
+
+    public Stream<String> fcmTokens(AudienceQuery query) {
+        return targets(query).map(TargetRow::fcmToken);
+    }
+
+    /* ---------- 내부 ---------- */
+
+    private Bitmaps loadOrAbort() {
+        try {
+            return load();
+        } catch (RuntimeException e) {
+            writeLocked(() -> {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            });
+            throw e;
+        }
+    }
+
+    private Bitmaps load() {
+        Bitmaps loaded = new Bitmaps();
+        int pageSize = audienceIndexProperties.getRebuildPageSize();
+
+        long[] lastUserId = {0L};
+        int read;
+        do {
+            int[] count = {0};
+            audienceSourceRepository.forEachUserAfter(lastUserId[0], pageSize, rs -> {
+                long userId = rs.getLong("id");
+                int bit = toBit(userId);
+                loaded.users.add(bit);
+                if (rs.getBoolean("is_alerted")) {
+                    loaded.alerted.add(bit);
+                }
+                if (rs.getBoolean("is_deleted")) {
+                    loaded.deleted.add(bit);
+                }
+                lastUserId[0] = userId;
+                count[0]++;
+            });
+            read = count[0];
+        } while (read == pageSize);
+
+        long[] lastKey = {0L, 0L};
+        do {
+            int[] count = {0};
+            audienceSourceRepository.forEachUserKeywordAfter(lastKey[0], (int) lastKey[1], pageSize, rs -> {
+                long userId = rs.getLong("users_id");
+                int keywordId = rs.getInt("keyword_id");
+                loaded.keywords.computeIfAbsent(keywordId, id -> new RoaringBitmap()).add(toBit(userId));
+                lastKey[0] = userId;
+                lastKey[1] = keywordId;
+                count[0]++;
+            });
+            read = count[0];
+        } while (read == pageSize);
+
+        loaded.optimize();
+        return loaded;
+    }
+
+    private void update(Consumer<Bitmaps> update) {
+        writeLocked(() -> {
+            update.accept(bitmaps);
+            if (rebuilding) {
+                pendingDuringRebuild.add(update);
+            }
+        });
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static RoaringBitmap evaluate(Bitmaps source, AudienceQuery query) {
+        if (query instanceof AudienceQuery.All) {
+            return source.users;
+        }
+        if (query instanceof AudienceQuery.Alerted) {
+            return source.alerted;
+        }
+        if (query instanceof AudienceQuery.Deleted) {
+            return source.deleted;
+        }
+        if (query instanceof AudienceQuery.Keyword keyword) {
+            return source.keywords.getOrDefault(keyword.keywordId(), Bitmaps.EMPTY);
+        }
+        if (query instanceof AudienceQuery.Not not) {
+            return RoaringBitmap.andNot(source.users, evaluate(source, not.query()));
+        }
+        if (query instanceof AudienceQuery.And and) {
+            if (and.queries().isEmpty()) {
+                return source.users.clone();
+            }
+            return FastAggregation.and(and.queries().stream().map(q -> evaluate(source, q)).iterator());
+        }
+        if (query instanceof AudienceQuery.Or or) {
+            if (or.queries().isEmpty()) {
+                return new RoaringBitmap();
+            }
+            return FastAggregation.or(or.queries().stream().map(q -> evaluate(source, q)).iterator());
+        }
+        throw new IllegalArgumentException("Unsupported audience query: " + query);
+    }
+
+    private static void set(RoaringBitmap bitmap, int bit, boolean value) {
+        if (value) {
+            bitmap.add(bit);
+        } else {
+            bitmap.remove(bit);
+        }
+    }
+
+    private static int toBit(long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) {
+            throw new IllegalStateException("User id out of audience index range: " + userId);
+        }
+        return (int) userId;
+    }
+
+    private static final class Bitmaps {
+
+        private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+        private final RoaringBitmap users = new RoaringBitmap();
+        private final RoaringBitmap alerted = new RoaringBitmap();
+        private final RoaringBitmap deleted = new RoaringBitmap();
+        private final Map<Integer, RoaringBitmap> keywords = new HashMap<>();
+
+        // evaluate 결과가 인덱스 내부 bitmap 자체인지 (단일 조건 등) → 그대로 넘기면 안 되므로 복사
+        private boolean isShared(RoaringBitmap bitmap) {
+            return bitmap == users || bitmap == alerted || bitmap == deleted || bitmap == EMPTY
+                    || keywords.values().stream().anyMatch(keyword -> keyword == bitmap);
+        }
+
+        private void optimize() {
+            users.runOptimize();
+            alerted.runOptimize();
+            deleted.runOptimize();
+            keywords.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private long sizeInBytes() {
+            long size = users.getLongSizeInBytes() + alerted.getLongSizeInBytes() + deleted.getLongSizeInBytes();
+            for (RoaringBitmap keyword : keywords.values()) {
+                size += keyword.getLongSizeInBytes();
+            }
+            return size;
+        }
+
+    }
+
+}
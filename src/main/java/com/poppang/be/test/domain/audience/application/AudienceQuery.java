@@ -0,0 +1,86 @@
+package com.poppang.be.test.domain.audience.application;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/*
+타게팅 조건 (AudienceIndex 에서 bitmap 연산으로 평가)
+예) 알림 동의 + 미탈퇴 + 키워드 X 또는 Y
+    AudienceQuery.alerted()
+            .and(AudienceQuery.not(AudienceQuery.deleted()))
+            .and(AudienceQuery.anyKeyword(List.of(x, y)))
+ */
+public sealed interface AudienceQuery {
+
+    // 인덱스에 있는 모든 유저
+    static AudienceQuery all() {
+        return All.INSTANCE;
+    }
+
+    static AudienceQuery alerted() {
+        return Alerted.INSTANCE;
+    }
+
+    static AudienceQuery deleted() {
+        return Deleted.INSTANCE;
+    }
+
+    static AudienceQuery keyword(int keywordId) {
+        return new Keyword(keywordId);
+    }
+
+    static AudienceQuery anyKeyword(Collection<Integer> keywordIds) {
+        return new Or(keywordIds.stream().map(AudienceQuery::keyword).toList());
+    }
+
+    static AudienceQuery allOf(AudienceQuery... queries) {
+        return new And(List.copyOf(Arrays.asList(queries)));
+    }
+
+    static AudienceQuery anyOf(AudienceQuery... queries) {
+        return new Or(List.copyOf(Arrays.asList(queries)));
+    }
+
+    static AudienceQuery not(AudienceQuery query) {
+        return new Not(query);
+    }
+
+    // 푸시 캠페인 기본 대상: 알림 동의 + 미탈퇴 + 키워드 중 하나 이상
+    static AudienceQuery pushCampaign(Collection<Integer> keywordIds) {
+        return allOf(alerted(), not(deleted()), anyKeyword(keywordIds));
+    }
+
+    default AudienceQuery and(AudienceQuery other) {
+        return allOf(this, other);
+    }
+
+    default AudienceQuery or(AudienceQuery other) {
+        return anyOf(this, other);
+    }
+
+    enum All implements AudienceQuery {
+        INSTANCE
+    }
+
+    enum Alerted implements AudienceQuery {
+        INSTANCE
+    }
+
+    enum Deleted implements AudienceQuery {
+        INSTANCE
+    }
+
+    record Keyword(int keywordId) implements AudienceQuery {
+    }
+
+    record And(List<AudienceQuery> queries) implements AudienceQuery {
+    }
+
+    record Or(List<AudienceQuery> queries) implements AudienceQuery {
+    }
+
+    record Not(AudienceQuery query) implements AudienceQuery {
+    }
+
+}
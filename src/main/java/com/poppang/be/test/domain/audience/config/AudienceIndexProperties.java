@@ -0,0 +1,25 @@
+package com.poppang.be.test.domain.audience.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "audience.index")
+public class AudienceIndexProperties {
+
+    // 전체 재구축 주기 (다른 인스턴스에서 가입 / 수정된 유저 반영)
+    private Duration rebuildInterval = Duration.ofHours(1);
+
+    // 재구축 시 users / user_keyword 를 읽는 페이지 크기
+    private int rebuildPageSize = 10_000;
+
+    // FCM 토큰 조회 시 IN 절 하나에 넣는 유저 수
+    private int targetBatchSize = 1_000;
+
+}
@@ -0,0 +1,60 @@
+package com.poppang.be.test.domain.audience.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/*
+타게팅 인덱스 원본 조회
+- 재구축은 keyset 페이징으로 행을 읽는 즉시 콜백에 넘김 (페이지 단위 객체 목록을 만들지 않음)
+- 발송 대상 조회는 인덱스가 고른 id 를 IN 절로 묶어서 한 번에
+ */
+@Repository
+@RequiredArgsConstructor
+public class AudienceSourceRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // (id, is_alerted, is_deleted) - id > afterId 인 행을 id 순으로 limit 개
+    public void forEachUserAfter(long afterId, int limit, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                "SELECT id, is_alerted, is_deleted FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                handler,
+                afterId, limit
+        );
+    }
+
+    // (users_id, keyword_id) - 복합키 순서로 (afterUserId, afterKeywordId) 이후 limit 개
+    public void forEachUserKeywordAfter(long afterUserId, int afterKeywordId, int limit, RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                "SELECT users_id, keyword_id FROM user_keyword "
+                        + "WHERE users_id > ? OR (users_id = ? AND keyword_id > ?) "
+                        + "ORDER BY users_id, keyword_id LIMIT ?",
+                handler,
+                afterUserId, afterUserId, afterKeywordId, limit
+        );
+    }
+
+    // 발송 대상 (FCM 토큰이 있는 유저만, id 순)
+    public List<TargetRow> findTargets(List<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT id, uid, fcm_token FROM users WHERE id IN ("
+                + String.join(", ", Collections.nCopies(userIds.size(), "?"))
+                + ") AND fcm_token IS NOT NULL AND fcm_token <> '' ORDER BY id";
+        return jdbcTemplate.query(
+                sql,
+                (rs, rowNum) -> new TargetRow(rs.getLong("id"), rs.getString("uid"), rs.getString("fcm_token")),
+                userIds.toArray()
+        );
+    }
+
+    public record TargetRow(long userId, String uid, String fcmToken) {
+    }
+
+}
@@ -1,38 +1,49 @@
 package com.poppang.be.test.domain.auth.apple.application;
 
-import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jwt.JWTClaimsSet;
-import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.common.config.ReactiveLoginProperties;
+import com.poppang.be.test.common.enums.LoginChannel;
+import com.poppang.be.test.common.enums.LoginStage;
+import com.poppang.be.test.common.http.OAuthCallGuard;
+import com.poppang.be.test.common.http.OAuthHttpClient;
+import com.poppang.be.test.common.http.OAuthWebClient;
+import com.poppang.be.test.common.metrics.LoginMetrics;
 import com.poppang.be.test.domain.auth.apple.config.AppleProperties;
 import com.poppang.be.test.domain.auth.apple.dto.request.AppleAppLoginRequestDto;
 import com.poppang.be.test.domain.auth.apple.dto.response.AppleTokenResponseDto;
 import com.poppang.be.test.domain.auth.apple.dto.response.AppleUserInfoResponseDto;
-import com.poppang.be.test.domain.auth.apple.util.AppleJwtUtil;
 import com.poppang.be.test.domain.auth.apple.util.AppleJwtVerifier;
+import com.poppang.be.test.domain.auth.apple.util.ClientSecretProvider;
+import com.poppang.be.test.domain.auth.application.LoginSingleFlight;
+import com.poppang.be.test.domain.auth.application.SessionTokenService;
 import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
 import com.poppang.be.test.domain.auth.dto.response.SignupResponseDto;
 import com.poppang.be.test.domain.auth.kakao.dto.request.SignupRequestDto;
-import com.poppang.be.test.domain.keyword.entity.UserKeyword;
-import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordRepository;
-import com.poppang.be.test.domain.recommend.entity.Recommend;
-import com.poppang.be.test.domain.recommend.entity.UserRecommend;
-import com.poppang.be.test.domain.recommend.infrastructure.RecommendRepository;
-import com.poppang.be.test.domain.recommend.infrastructure.UserRecommendRepository;
+import com.poppang.be.test.domain.keyword.application.KeywordDictionary;
+import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordBulkRepository;
+import com.poppang.be.test.domain.recommend.application.RecommendCatalogCache;
+import com.poppang.be.test.domain.recommend.infrastructure.UserRecommendBulkRepository;
+import com.poppang.be.test.domain.users.application.NicknameIndex;
 import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.SignupCompletedEvent;
 import com.poppang.be.test.domain.users.entity.Users;
 import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
-import java.text.ParseException;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -40,119 +51,149 @@ import java.util.Optional;
 public class AppleAuthService {
 
     private final AppleProperties appleProperties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OAuthHttpClient oAuthHttpClient;
+    private final OAuthCallGuard oAuthCallGuard;
     private final UsersRepository usersRepository;
-    private final UserKeywordRepository userKeywordRepository;
-    private final UserRecommendRepository userRecommendRepository;
-    private final RecommendRepository recommendRepository;
-
-    // Web 로그인
-    @Transactional
+    private final NicknameIndex nicknameIndex;
+    private final KeywordDictionary keywordDictionary;
+    private final UserKeywordBulkRepository userKeywordBulkRepository;
+    private final UserRecommendBulkRepository userRecommendBulkRepository;
+    private final RecommendCatalogCache recommendCatalogCache;
+    private final AppleJwtVerifier appleJwtVerifier;
+    private final ClientSecretProvider clientSecretProvider;
+    private final OAuthWebClient oAuthWebClient;
+    private final ReactiveLoginProperties reactiveLoginProperties;
+    private final Scheduler loginDbScheduler;
+    private final LoginMetrics loginMetrics;
+    private final SessionTokenService sessionTokenService;
+    private final LoginSingleFlight loginSingleFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // Web 로그인 (provider 호출은 트랜잭션 밖, DB 는 upsert 구간에서만 사용)
     public LoginResponseDto webLogin(String authCode) {
+        return loginMetrics.login(Provider.APPLE, LoginChannel.WEB, () -> {
+            AppleTokenResponseDto appleToken = loginMetrics.stage(Provider.APPLE, LoginChannel.WEB, LoginStage.TOKEN_EXCHANGE,
+                    () -> getAccessToken(authCode));
+            if (appleToken == null || appleToken.getAccessToken() == null || appleToken.getAccessToken().isBlank()) {
+                throw new IllegalStateException("Failed to retrieve Apple access token");
+            }
 
-        AppleTokenResponseDto appleToken = getAccessToken(authCode);
-        if (appleToken == null || appleToken.getAccessToken() == null || appleToken.getAccessToken().isBlank()) {
-            throw new IllegalStateException("Failed to retrieve Apple access token");
-        }
+            AppleUserInfoResponseDto appleUserInfoResponseDto = loginMetrics.stage(Provider.APPLE, LoginChannel.WEB, LoginStage.ID_TOKEN_VERIFY,
+                    () -> parseIdTokenToProfile(appleToken.getIdToken()));
+            String uid = appleUserInfoResponseDto.getUid();
 
-        AppleUserInfoResponseDto appleUserInfoResponseDto = parseIdTokenToProfile(appleToken.getIdToken());
-        String uid = appleUserInfoResponseDto.getUid();
+            Users user = loginMetrics.stage(Provider.APPLE, LoginChannel.WEB, LoginStage.UPSERT,
+                    () -> upsertByUid(uid, appleUserInfoResponseDto.getEmail()));
 
-        Users user = upsertByUid(uid, appleUserInfoResponseDto.getEmail());
+            return sessionTokenService.login(user);
+        });
+    }
 
-        return LoginResponseDto.from(user);
+    // Web 로그인 (non-blocking: 토큰 교환 → id_token 검증 → upsert 를 하나의 비동기 체인으로)
+    public Mono<LoginResponseDto> webLoginAsync(String authCode) {
+        Mono<LoginResponseDto> login = loginMetrics.stage(Provider.APPLE, LoginChannel.WEB, LoginStage.TOKEN_EXCHANGE,
+                        requestAccessToken(authCode).timeout(reactiveLoginProperties.getTokenExchangeTimeout()))
+                .filter(token -> token.getAccessToken() != null && !token.getAccessToken().isBlank())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Failed to retrieve Apple access token")))
+                // 모르는 kid 면 JWKS 재조회(블로킹)가 일어날 수 있어 boundedElastic 에서 검증
+                .flatMap(token -> loginMetrics.stage(Provider.APPLE, LoginChannel.WEB, LoginStage.ID_TOKEN_VERIFY,
+                        Mono.fromCallable(() -> parseIdTokenToProfile(token.getIdToken()))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .timeout(reactiveLoginProperties.getProfileTimeout())))
+                .flatMap(userInfo -> loginMetrics.stage(Provider.APPLE, LoginChannel.WEB, LoginStage.UPSERT,
+                        Mono.fromCallable(() -> sessionTokenService.login(upsertByUid(userInfo.getUid(), userInfo.getEmail())))
+                                .subscribeOn(loginDbScheduler)
+                                .timeout(reactiveLoginProperties.getUpsertTimeout())))
+                .onErrorMap(WebClientException.class, e -> new IllegalStateException("Failed to call Apple token endpoint", e));
+
+        return loginMetrics.login(Provider.APPLE, LoginChannel.WEB, login);
     }
 
-    // App 로그인
-    @Transactional
+    // App 로그인 (같은 자격 증명으로 동시에 온 재시도는 하나로 합침)
     public LoginResponseDto mobileLogin(AppleAppLoginRequestDto appleAppLoginRequestDto) {
+        return loginSingleFlight.execute(Provider.APPLE, appleAppLoginRequestDto.getAuthCode(), () -> loginMetrics.login(Provider.APPLE, LoginChannel.MOBILE, () -> {
+            AppleTokenResponseDto appleToken = loginMetrics.stage(Provider.APPLE, LoginChannel.MOBILE, LoginStage.TOKEN_EXCHANGE,
+                    () -> getAccessToken(appleAppLoginRequestDto.getAuthCode()));
+            if (appleToken == null || appleToken.getAccessToken() == null || appleToken.getAccessToken().isBlank()) {
+                throw new IllegalStateException("Failed to retrieve Apple access token");
+            }
 
-        AppleTokenResponseDto appleToken = getAccessToken(appleAppLoginRequestDto.getAuthCode());
-        if (appleToken == null || appleToken.getAccessToken() == null || appleToken.getAccessToken().isBlank()) {
-            throw new IllegalStateException("Failed to retrieve Apple access token");
-        }
-
-        AppleUserInfoResponseDto appleUserInfoResponseDto = parseIdTokenToProfile(appleToken.getIdToken());
-        String uid = appleUserInfoResponseDto.getUid();
+            AppleUserInfoResponseDto appleUserInfoResponseDto = loginMetrics.stage(Provider.APPLE, LoginChannel.MOBILE, LoginStage.ID_TOKEN_VERIFY,
+                    () -> parseIdTokenToProfile(appleToken.getIdToken()));
+            String uid = appleUserInfoResponseDto.getUid();
 
-        Users user = upsertByUid(uid, appleUserInfoResponseDto.getEmail());
+            Users user = loginMetrics.stage(Provider.APPLE, LoginChannel.MOBILE, LoginStage.UPSERT,
+                    () -> upsertByUid(uid, appleUserInfoResponseDto.getEmail()));
 
-        return LoginResponseDto.from(user);
+            return sessionTokenService.login(user);
+        }));
     }
 
     // 회원가입
-    @Transactional
+    // - 키워드 / 추천 id 변환은 트랜잭션 밖에서 먼저 (새 키워드 등록이 별도 트랜잭션이라 안에서 하면 커넥션을 2개 잡음)
+    // - 유저 갱신 + 키워드 / 추천 저장 + 세션 발급만 한 트랜잭션
     public SignupResponseDto signup(SignupRequestDto signupRequestDto) {
-        if (usersRepository.existsByNickname(signupRequestDto.getNickname())) {
+        // 닉네임 중복 확인 (Bloom filter + 인덱스 조회)
+        if (nicknameIndex.isTaken(signupRequestDto.getNickname())) {
             throw new IllegalStateException("이미 사용 중인 닉네임입니다. ");
         }
 
-        Users user = usersRepository.findByUid(signupRequestDto.getUid())
-                .orElseThrow(() -> new IllegalStateException("유저를 찾을 수 없습니다. "));
-
-        user.completeSignup(signupRequestDto);
-        usersRepository.save(user);
+        // 키워드 id 일괄 변환 (없는 이름은 사전이 등록)
+        List<Integer> keywordIds = keywordDictionary.resolveIds(
+                Optional.ofNullable(signupRequestDto.getKeywordList()).orElseGet(List::of)
+        );
+        // 추천 id 검증 (카탈로그 캐시, FK 는 id 그대로 사용)
+        List<Long> recommendIds = recommendCatalogCache.resolveIds(
+                Optional.ofNullable(signupRequestDto.getRecommendList()).orElseGet(List::of)
+        );
+
+        return transactionTemplate.execute(status -> {
+            Users user = usersRepository.findByUid(signupRequestDto.getUid())
+                    .orElseThrow(() -> new IllegalStateException("유저를 찾을 수 없습니다. "));
+
+            user.completeSignup(signupRequestDto);
+            try {
+                // 다른 인스턴스와 동시에 같은 닉네임으로 가입한 경우 uk_users_nickname 위반
+                usersRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalStateException("이미 사용 중인 닉네임입니다. ");
+            }
+            nicknameIndex.add(user.getNickname());
 
-        // 키워드 저장
-        for (String keyword : signupRequestDto.getKeywordList()) {
-            userKeywordRepository.save(new UserKeyword(user, keyword));
-        }
+            // 키워드 / 추천 저장 (각각 multi-row INSERT 한 번)
+            userKeywordBulkRepository.insertAll(user.getId(), keywordIds);
+            userRecommendBulkRepository.insertAll(user.getId(), recommendIds);
 
-        // 추천 저장
-        List<Long> recommendIds = Optional.ofNullable(signupRequestDto.getRecommendList())
-                .orElseGet(List::of)
-                .stream()
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        if (!recommendIds.isEmpty()) {
-            List<Recommend> recommendList = recommendRepository.findAllById(recommendIds);
-            for (Recommend recommend : recommendList) {
-                userRecommendRepository.save(new UserRecommend(user, recommend));
-            }
-        }
+            // 타게팅 인덱스 등 후속 처리 (커밋 이후)
+            eventPublisher.publishEvent(new SignupCompletedEvent(user.getId(), user.isAlerted(), keywordIds, recommendIds));
 
-        return SignupResponseDto.from(user);
+            return sessionTokenService.signup(user);
+        });
     }
 
     // update + insert (존재하면 값 반환, 없으면 insert 후 반환)
     private Users upsertByUid(String uid, String email) {
-        return usersRepository.findByUid(uid)
-                .orElseGet(() -> usersRepository.save(
-                        Users.builder()
-                                .uid(uid)
-                                .provider(Provider.APPLE)
-                                .role(Role.MEMBER)
-                                .email(email)
-                                .build()
-                ));
+        return usersRepository.upsertByUid(uid, Provider.APPLE, email);
     }
 
     // 1. code -> 토큰
     private AppleTokenResponseDto getAccessToken(String code) {
 
         try {
-            String clientSecret = AppleJwtUtil.createClientSecret(appleProperties);
-
-            MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-            params.add("client_id", appleProperties.getClientId());
-            params.add("client_secret", clientSecret);
-            params.add("code", code);
-            params.add("grant_type", "authorization_code");
-            params.add("redirect_uri", appleProperties.getRedirectUri());
+            MultiValueMap<String, String> params = tokenRequestParams(code);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
             HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
-            ResponseEntity<AppleTokenResponseDto> response = restTemplate.exchange(
+            ResponseEntity<AppleTokenResponseDto> response = oAuthCallGuard.execute(Provider.APPLE, () -> oAuthHttpClient.restTemplate(Provider.APPLE).exchange(
                     appleProperties.getTokenUri(),
                     HttpMethod.POST,
                     request,
                     AppleTokenResponseDto.class
-            );
+            ));
 
             AppleTokenResponseDto tokenResponse = response.getBody();
             if (tokenResponse == null) {
@@ -162,17 +203,42 @@ public class AppleAuthService {
 
         } catch (RestClientException e) {
             throw new IllegalStateException("Failed to call Apple token endpoint", e);
-        } catch (JOSEException | ParseException e) { // createClientSecret 등에서 던질 수 있는 구체 예외
-            throw new IllegalStateException("Failed to create Apple client_secret", e);
-        }catch (Exception e){
+        } catch (IllegalStateException e) { // client_secret 생성 실패 등
+            throw e;
+        } catch (Exception e) {
             throw new IllegalStateException("Unexpected error", e);
         }
     }
 
+    private MultiValueMap<String, String> tokenRequestParams(String code) {
+        String clientSecret = clientSecretProvider.getClientSecret();
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("client_id", appleProperties.getClientId());
+        params.add("client_secret", clientSecret);
+        params.add("code", code);
+        params.add("grant_type", "authorization_code");
+        params.add("redirect_uri", appleProperties.getRedirectUri());
+        return params;
+    }
+
+    // 1. code -> 토큰 (non-blocking)
+    private Mono<AppleTokenResponseDto> requestAccessToken(String code) {
+        return Mono.fromCallable(() -> tokenRequestParams(code))
+                .flatMap(params -> oAuthWebClient.webClient(Provider.APPLE).post()
+                        .uri(appleProperties.getTokenUri())
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .body(BodyInserters.fromFormData(params))
+                        .retrieve()
+                        .bodyToMono(AppleTokenResponseDto.class))
+                .transform(call -> oAuthCallGuard.execute(Provider.APPLE, call));
+    }
+
     // 2. token(id_token) 검증 + id_token -> user info
+    // (id_token 은 code 교환마다 새로 발급되어 같은 토큰이 다시 오지 않으므로 VerifiedCredentialCache 를 쓰지 않음)
     private AppleUserInfoResponseDto parseIdTokenToProfile(String idToken) {
         try {
-            JWTClaimsSet claims = AppleJwtVerifier.verifyIdToken(
+            JWTClaimsSet claims = appleJwtVerifier.verifyIdToken(
                     idToken,
                     appleProperties.getClientId()
             );
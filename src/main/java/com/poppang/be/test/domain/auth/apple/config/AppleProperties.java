@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -18,4 +20,11 @@ public class AppleProperties {
     private String redirectUri;
     private String tokenUri;
 
+    // id_token 서명 검증용 공개키(JWKs) 엔드포인트 (테스트 시 로컬 stub 으로 교체 가능)
+    private String jwksUri = "https://appleid.apple.com/auth/keys";
+
+    // client_secret(JWT) 유효기간 / 만료 몇 분 전부터 재서명할지
+    private Duration clientSecretTtl = Duration.ofMinutes(30);
+    private Duration clientSecretRefreshBefore = Duration.ofMinutes(5);
+
 }
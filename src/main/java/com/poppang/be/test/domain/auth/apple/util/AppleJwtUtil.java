@@ -31,15 +31,30 @@ import java.security.spec.PKCS8EncodedKeySpec;
 import java.util.Base64;
 
 // JWT 발급 시간(iat), 만료 시간(exp) 등 시간을 다룰 때 사용.
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 
 
 public class AppleJwtUtil {
+
+    private static final Duration DEFAULT_CLIENT_SECRET_TTL = Duration.ofMinutes(30);
+
     /*
     client_secret 생성 메서드
     - Apple “Sign in with Apple” 토큰 교환 시 필요한 client_secret(JWT)을 ES256으로 서명해서 생성
+    - 매 호출마다 .p8 파싱 + 서명을 하므로, 로그인 경로에서는 ClientSecretProvider 의 캐시된 값을 사용
      */
     public static String createClientSecret(AppleProperties properties) throws Exception {
+        ECPrivateKey privateKey = loadPrivateKey(properties);
+        return createClientSecret(properties, privateKey, Instant.now(), DEFAULT_CLIENT_SECRET_TTL);
+    }
+
+    /*
+    .p8 개인키 로딩 메서드
+    - 기동 시 한 번만 호출해서 ECPrivateKey 를 재사용하는 용도
+     */
+    public static ECPrivateKey loadPrivateKey(AppleProperties properties) throws Exception {
         // 1) .p8 개인키 읽기
         // - application.yml의 apple.private-key-path 값을 이용
         // - 현재 구현은 classpath: 경로만 지원하도록 가정
@@ -68,8 +83,17 @@ public class AppleJwtUtil {
         // - Apple의 .p8은 PKCS#8 포맷의 EC(서명 알고리즘: ES256) 개인키
         byte[] pkcs8EncodedBytes = Base64.getDecoder().decode(privateKeyPem);
         PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(pkcs8EncodedBytes);
-        ECPrivateKey privateKey = (ECPrivateKey) KeyFactory.getInstance("EC").generatePrivate(keySpec);
+        return (ECPrivateKey) KeyFactory.getInstance("EC").generatePrivate(keySpec);
+    }
 
+    /*
+    이미 로딩된 개인키로 client_secret 서명
+    - issuedAt 기준 ttl 동안 유효한 JWT 생성
+     */
+    public static String createClientSecret(AppleProperties properties,
+                                            ECPrivateKey privateKey,
+                                            Instant issuedAt,
+                                            Duration ttl) throws JOSEException {
         // 4) JWT Header 구성
         // - alg: ES256 (P-256 + SHA-256) ← Apple이 요구
         // - kid: Apple 개발자 콘솔의 Key ID
@@ -85,13 +109,13 @@ public class AppleJwtUtil {
         // - exp: 만료시각 (예: 30분)  *Apple은 최대 6개월까지 허용하지만, 짧게 가져가면 보안상 유리
         // - aud: 고정값 "https://appleid.apple.com"
         // - sub: client_id (iOS는 bundle id, Web은 Service ID)
-        long now = System.currentTimeMillis() / 1000; // 초 단위
+        long now = issuedAt.getEpochSecond(); // 초 단위
         JWTClaimsSet claimsSet = new JWTClaimsSet.Builder()
-                .issuer(properties.getTeamId())                   // iss
-                .issueTime(new Date(now * 1000))                  // iat (ms 단위 Date)
-                .expirationTime(new Date((now + 1800) * 1000))    // exp = 30분(1800초) 후
-                .audience("https://appleid.apple.com")            // aud
-                .subject(properties.getClientId())                // sub
+                .issuer(properties.getTeamId())                          // iss
+                .issueTime(new Date(now * 1000))                         // iat (ms 단위 Date)
+                .expirationTime(new Date((now + ttl.toSeconds()) * 1000)) // exp
+                .audience("https://appleid.apple.com")                   // aud
+                .subject(properties.getClientId())                       // sub
                 .build();
 
         // 6) JWT 서명
@@ -104,4 +128,3 @@ public class AppleJwtUtil {
         return signedJWT.serialize();
     }
 }
-
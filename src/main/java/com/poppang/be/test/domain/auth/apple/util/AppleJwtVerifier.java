@@ -1,61 +1,149 @@
 package com.poppang.be.test.domain.auth.apple.util;
 
 import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
-import com.nimbusds.jose.proc.SecurityContext;
-import com.nimbusds.jose.proc.JWSKeySelector;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
 import com.nimbusds.jwt.proc.DefaultJWTProcessor;
-import java.net.URL;
+import com.poppang.be.test.common.http.OAuthHttpClient;
+import com.poppang.be.test.domain.auth.apple.config.AppleProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+@Slf4j
+@Component
 public class AppleJwtVerifier {
 
     private static final String ISSUER = "https://appleid.apple.com";
 
+    // 모르는 kid 로 인한 재조회 최소 간격 (위조된 kid 로 Apple 서버를 계속 호출하는 것 방지)
+    private static final long UNKNOWN_KID_REFETCH_INTERVAL_MILLIS = 60_000L;
+
+    private final AppleProperties appleProperties;
+    private final OAuthHttpClient oAuthHttpClient;
+    private final ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
+
+    // kid -> Apple 공개키 (갱신 시 통째로 교체, 실패하면 기존 키 계속 사용)
+    private volatile Map<String, JWK> keysByKid = Map.of();
+    private volatile long lastFetchMillis = 0L;
+
+    public AppleJwtVerifier(AppleProperties appleProperties, OAuthHttpClient oAuthHttpClient) {
+        this.appleProperties = appleProperties;
+        this.oAuthHttpClient = oAuthHttpClient;
+
+        // JWT Processor 는 한 번만 만들고 재사용 (키 조회는 아래 캐시에서)
+        // Apple은 RS256 or ES256 → 보통 RS256
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, this::selectKeys));
+        this.jwtProcessor = processor;
+    }
+
     /**
      * Apple id_token 검증 (DefaultJWTProcessor 방식)
      * @param idToken  Apple 서버에서 받은 id_token (JWT)
      * @param clientId 내 앱의 client_id (bundle ID or Service ID)
      * @return JWTClaimsSet (sub, email 등 클레임 포함)
      */
-    public static JWTClaimsSet verifyIdToken(String idToken, String clientId) throws Exception {
-        // 1) Apple 공개키(JWKs) 엔드포인트
-        URL jwksURL = new URL("https://appleid.apple.com/auth/keys");
-
-        // 2) 원격 JWK 소스 설정 (Nimbus가 자동으로 캐싱 + kid 매칭 처리)
-        JWKSource<SecurityContext> keySource = new RemoteJWKSet<>(jwksURL);
-
-        // 3) JWT Processor 생성
-        ConfigurableJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
-
-        // 4) 어떤 알고리즘으로 서명 검증할지 선택 (Apple은 RS256 or ES256 → 보통 RS256)
-        JWSKeySelector<SecurityContext> keySelector =
-                new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, keySource);
-
-        jwtProcessor.setJWSKeySelector(keySelector);
-
-        // 5) id_token 검증 및 클레임 추출
+    public JWTClaimsSet verifyIdToken(String idToken, String clientId) throws Exception {
+        // 1) id_token 검증 및 클레임 추출 (공개키는 메모리 캐시에서 kid 로 조회)
         JWTClaimsSet claims = jwtProcessor.process(idToken, null);
 
-        // 6) iss(발급자) 검증
+        // 2) iss(발급자) 검증
         if (!ISSUER.equals(claims.getIssuer())) {
             throw new IllegalArgumentException("❌ Invalid issuer: " + claims.getIssuer());
         }
 
-        // 7) aud(내 앱 client_id) 검증
+        // 3) aud(내 앱 client_id) 검증
         if (!claims.getAudience().contains(clientId)) {
             throw new IllegalArgumentException("❌ Invalid audience: " + claims.getAudience());
         }
 
-        // 8) 만료시간(exp) 검증
+        // 4) 만료시간(exp) 검증
         if (claims.getExpirationTime().before(new java.util.Date())) {
             throw new IllegalArgumentException("❌ id_token expired");
         }
 
         return claims;
     }
-}
 
+    // 백그라운드 주기 갱신 (기동 직후 1회 + 이후 apple.jwks-refresh-interval 마다)
+    @Scheduled(fixedDelayString = "${apple.jwks-refresh-interval:PT1H}")
+    public void refreshKeys() {
+        try {
+            fetchKeys();
+        } catch (Exception e) {
+            log.warn("Failed to refresh Apple JWKS, keep serving {} cached keys", keysByKid.size(), e);
+        }
+    }
+
+    // JWKSource: 캐시에서 kid 매칭, 없으면 한 번만 재조회 후 다시 매칭
+    private List<JWK> selectKeys(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        List<JWK> matches = match(jwkSelector.getMatcher());
+        if (!matches.isEmpty()) {
+            return matches;
+        }
+
+        try {
+            refetchForUnknownKid();
+        } catch (RestClientException | ParseException e) {
+            throw new KeySourceException("Failed to fetch Apple JWKS", e);
+        }
+        return match(jwkSelector.getMatcher());
+    }
+
+    private List<JWK> match(JWKMatcher matcher) {
+        Map<String, JWK> keys = keysByKid;
+        Set<String> kids = matcher.getKeyIDs();
+
+        Collection<JWK> candidates = (kids == null || kids.isEmpty())
+                ? keys.values()
+                : kids.stream().map(keys::get).filter(Objects::nonNull).toList();
+
+        return candidates.stream()
+                .filter(matcher::matches)
+                .toList();
+    }
+
+    private synchronized void refetchForUnknownKid() throws ParseException {
+        if (System.currentTimeMillis() - lastFetchMillis < UNKNOWN_KID_REFETCH_INTERVAL_MILLIS) {
+            return;
+        }
+        fetchKeys();
+    }
+
+    private synchronized void fetchKeys() throws ParseException {
+        lastFetchMillis = System.currentTimeMillis();
+
+        String body = oAuthHttpClient.restTemplate(Provider.APPLE)
+                .getForObject(appleProperties.getJwksUri(), String.class);
+        if (body == null) {
+            throw new ParseException("Empty Apple JWKS response", 0);
+        }
+        JWKSet jwkSet = JWKSet.parse(body);
+
+        Map<String, JWK> keys = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (jwk.getKeyID() != null) {
+                keys.put(jwk.getKeyID(), jwk);
+            }
+        }
+        keysByKid = Map.copyOf(keys);
+    }
+}
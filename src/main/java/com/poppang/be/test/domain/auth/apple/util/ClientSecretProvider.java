@@ -0,0 +1,117 @@
+package com.poppang.be.test.domain.auth.apple.util;
+
+import com.nimbusds.jose.JOSEException;
+import com.poppang.be.test.domain.auth.apple.config.AppleProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.security.interfaces.ECPrivateKey;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+Apple client_secret(JWT) 캐시
+- .p8 개인키는 기동 시 한 번만 파싱
+- 서명된 client_secret 은 만료 직전(apple.client-secret-refresh-before)까지 재사용
+- 재서명은 CAS 로 한 스레드만 수행 (나머지는 기존 값 사용 or 같은 결과 대기)
+ */
+@Component
+public class ClientSecretProvider {
+
+    private final AppleProperties appleProperties;
+    private final ECPrivateKey privateKey;
+
+    private final AtomicReference<ClientSecret> cached = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<ClientSecret>> minting = new AtomicReference<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ClientSecretProvider(AppleProperties appleProperties, MeterRegistry meterRegistry) {
+        this.appleProperties = appleProperties;
+        try {
+            this.privateKey = AppleJwtUtil.loadPrivateKey(appleProperties);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load Apple private key", e);
+        }
+
+        this.hitCounter = Counter.builder("apple.client_secret.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("apple.client_secret.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public String getClientSecret() {
+        Instant now = Instant.now();
+
+        // 1) 아직 재서명 시점 전이면 캐시 그대로 사용
+        ClientSecret current = cached.get();
+        if (current != null && now.isBefore(current.refreshAt())) {
+            hitCounter.increment();
+            return current.value();
+        }
+
+        // 2) 재서명 담당 스레드 선점 (single-flight)
+        CompletableFuture<ClientSecret> mine = new CompletableFuture<>();
+        CompletableFuture<ClientSecret> inflight = minting.compareAndExchange(null, mine);
+        if (inflight == null) {
+            return mint(now, current, mine);
+        }
+
+        // 3) 다른 스레드가 재서명 중 → 기존 값이 아직 유효하면 그대로 사용, 아니면 결과 대기
+        if (current != null && now.isBefore(current.expiresAt())) {
+            hitCounter.increment();
+            return current.value();
+        }
+        try {
+            return inflight.join().value();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed to create Apple client_secret", e.getCause());
+        }
+    }
+
+    private String mint(Instant now, ClientSecret previous, CompletableFuture<ClientSecret> mine) {
+        try {
+            // 선점 사이에 다른 스레드가 이미 갱신했으면 그 값 사용
+            ClientSecret latest = cached.get();
+            if (latest != previous && latest != null && now.isBefore(latest.refreshAt())) {
+                hitCounter.increment();
+                mine.complete(latest);
+                return latest.value();
+            }
+
+            String value = AppleJwtUtil.createClientSecret(
+                    appleProperties,
+                    privateKey,
+                    now,
+                    appleProperties.getClientSecretTtl()
+            );
+            Instant expiresAt = now.plus(appleProperties.getClientSecretTtl());
+            ClientSecret minted = new ClientSecret(
+                    value,
+                    expiresAt.minus(appleProperties.getClientSecretRefreshBefore()),
+                    expiresAt
+            );
+
+            cached.set(minted);
+            missCounter.increment();
+            mine.complete(minted);
+            return value;
+
+        } catch (JOSEException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw new IllegalStateException("Failed to create Apple client_secret", e);
+        } finally {
+            minting.set(null);
+        }
+    }
+
+    private record ClientSecret(String value, Instant refreshAt, Instant expiresAt) {
+    }
+
+}
@@ -1,24 +1,62 @@
 package com.poppang.be.test.domain.auth.application;
 
+import com.poppang.be.test.domain.auth.config.SessionTokenProperties;
 import com.poppang.be.test.domain.auth.dto.request.AutoLoginRequestDto;
+import com.poppang.be.test.domain.auth.dto.request.RefreshTokenRequestDto;
 import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
-import com.poppang.be.test.domain.users.entity.Users;
 import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
+/*
+자동 로그인 / 토큰 재발급
+- 클래스 단위 트랜잭션을 걸지 않음: 토큰 경로는 커넥션을 잡지 않아야 하고, refresh 는 쓰기 트랜잭션(SessionTokenService)
+- uid 조회는 near-cache 에 들어갈 값이라 replica 가 아닌 primary 에서 조회 (UsersRepository.findByUidAndDeletedFalse)
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UsersRepository usersRepository;
+    private final LoginProfileCache loginProfileCache;
+    private final SessionTokenService sessionTokenService;
+    private final SessionTokenProperties sessionTokenProperties;
 
     public LoginResponseDto autoLogin(AutoLoginRequestDto autoLoginRequestDto) {
+        // 1) 액세스 토큰이 유효하면 서명 검증만으로 응답 (DB 조회 없음)
+        if (hasText(autoLoginRequestDto.getAccessToken())) {
+            Optional<LoginResponseDto> authenticated = sessionTokenService.authenticate(autoLoginRequestDto.getAccessToken());
+            if (authenticated.isPresent()) {
+                return authenticated.get();
+            }
+        }
+
+        // 2) 만료됐거나 검증할 수 없으면 리프레시 토큰으로 재발급
+        if (hasText(autoLoginRequestDto.getRefreshToken())) {
+            return sessionTokenService.refresh(autoLoginRequestDto.getRefreshToken());
+        }
 
-        Users user = usersRepository.findByUidAndDeletedFalse(autoLoginRequestDto.getUid())
+        // 3) 토큰이 없는 구버전 앱: uid 로 조회 (auth.session-token.legacy-uid-login 이 켜진 경우만)
+        //    near-cache 우선, 미스일 때만 DB 조회, 탈퇴 유저는 캐시하지 않음
+        if (!sessionTokenProperties.isLegacyUidLogin()) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다. ");
+        }
+        String uid = autoLoginRequestDto.getUid();
+        return loginProfileCache.get(uid, () -> usersRepository.findByUidAndDeletedFalse(uid).map(LoginResponseDto::from))
                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다. "));
+    }
+
+    public LoginResponseDto refresh(RefreshTokenRequestDto refreshTokenRequestDto) {
+        if (!hasText(refreshTokenRequestDto.getRefreshToken())) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다. ");
+        }
+        return sessionTokenService.refresh(refreshTokenRequestDto.getRefreshToken());
+    }
 
-        return LoginResponseDto.from(user);
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 
 }
@@ -0,0 +1,112 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poppang.be.test.domain.auth.config.LoginCacheProperties;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.users.entity.UsersChangedEvent;
+import com.poppang.be.test.domain.users.infrastructure.UsersInvalidationBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+자동 로그인 프로필 near-cache (인스턴스 로컬, uid -> LoginResponseDto)
+- 세션 토큰 도입 후에는 토큰 없이 uid 만 보내는 구버전 앱 경로에서만 조회 (auth.session-token.legacy-uid-login)
+  기본 설정(false)에서는 비어 있는 채로 무효화만 받음 → 구버전 경로를 없앨 때 이 캐시와 auth.login-cache 도 함께 제거
+- 크기 + TTL 로 제거, 히트/미스/제거 지표는 auth.login_profile 캐시 메트릭으로 노출
+- Users 수정/삭제 시 flush 시점에 로컬 무효화, 커밋되면 한 번 더 로컬 무효화 + bus 로 다른 인스턴스에 전파
+- 늦게 끝난 DB 조회가 무효화 이후에 옛 값을 넣지 못하도록 uid 별 tombstone(무효화 순번) 을 조회 전/후로 비교
+ */
+@Component
+public class LoginProfileCache {
+
+    private final LoginCacheProperties loginCacheProperties;
+    private final UsersInvalidationBus usersInvalidationBus;
+
+    private final Cache<String, LoginResponseDto> profiles;
+    private final Cache<String, Long> tombstones;
+    private final AtomicLong invalidationSequence = new AtomicLong();
+
+    public LoginProfileCache(LoginCacheProperties loginCacheProperties,
+                             UsersInvalidationBus usersInvalidationBus,
+                             MeterRegistry meterRegistry) {
+        this.loginCacheProperties = loginCacheProperties;
+        this.usersInvalidationBus = usersInvalidationBus;
+
+        this.profiles = Caffeine.newBuilder()
+                .maximumSize(loginCacheProperties.getMaximumSize())
+                .expireAfterWrite(loginCacheProperties.getTtl())
+                .recordStats()
+                .build();
+        this.tombstones = Caffeine.newBuilder()
+                .expireAfterWrite(loginCacheProperties.getTombstoneTtl())
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, profiles, "auth.login_profile");
+
+        // 다른 인스턴스(및 자기 자신)에서 온 무효화
+        usersInvalidationBus.subscribe(this::invalidateLocal);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 DB 조회 후 저장
+     * @param uid    유저 uid
+     * @param loader 캐시 미스 시 실행 (비어 있으면 캐시하지 않음)
+     */
+    public Optional<LoginResponseDto> get(String uid, Supplier<Optional<LoginResponseDto>> loader) {
+        if (!loginCacheProperties.isEnabled() || uid == null) {
+            return loader.get();
+        }
+
+        LoginResponseDto cached = profiles.getIfPresent(uid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Long before = tombstones.getIfPresent(uid);
+        Optional<LoginResponseDto> loaded = loader.get();
+        loaded.ifPresent(dto -> putIfNotInvalidated(uid, before, dto));
+        return loaded;
+    }
+
+    // flush 시점(커밋 전): 커밋 중에 들어온 조회가 옛 값을 캐시하지 못하게 먼저 로컬 무효화
+    @EventListener
+    public void onUsersChanging(UsersChangedEvent event) {
+        invalidateLocal(event.uid());
+    }
+
+    // 커밋 이후: 다시 로컬 무효화 + 다른 인스턴스로 전파
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsersChanged(UsersChangedEvent event) {
+        invalidateLocal(event.uid());
+        usersInvalidationBus.publish(event.uid());
+    }
+
+    public void invalidateLocal(String uid) {
+        // tombstone 먼저 → 그 다음 제거 (순서가 바뀌면 조회 스레드가 옛 값을 다시 넣을 수 있음)
+        tombstones.put(uid, invalidationSequence.incrementAndGet());
+        profiles.invalidate(uid);
+    }
+
+    private void putIfNotInvalidated(String uid, Long before, LoginResponseDto dto) {
+        if (!Objects.equals(before, tombstones.getIfPresent(uid))) {
+            return;
+        }
+        profiles.put(uid, dto);
+
+        // put 과 무효화가 겹친 경우 방금 넣은 값 제거
+        if (!Objects.equals(before, tombstones.getIfPresent(uid))) {
+            profiles.invalidate(uid);
+        }
+    }
+
+}
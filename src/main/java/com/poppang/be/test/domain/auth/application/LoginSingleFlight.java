@@ -0,0 +1,115 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poppang.be.test.domain.auth.config.LoginSingleFlightProperties;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/*
+같은 자격 증명(authCode / idToken / accessToken)으로 동시에 들어온 앱 로그인 합치기 (single-flight)
+- 키는 provider + 자격 증명의 SHA-256 (원문은 메모리에 키로 남기지 않음)
+- 먼저 온 요청(leader)만 provider 호출 + upsert 를 수행, 나머지는 같은 결과(또는 같은 예외)를 공유
+- 성공 결과는 auth.single-flight.memo-ttl 동안 보관 (일회용 Apple authCode 재시도도 같은 응답을 받도록)
+- auth.login.single_flight{result=leader|joined|memo} 로 실제 실행 / 합쳐진 호출 수 집계
+ */
+@Component
+public class LoginSingleFlight {
+
+    private final LoginSingleFlightProperties loginSingleFlightProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, CompletableFuture<LoginResponseDto>> inflight = new ConcurrentHashMap<>();
+    private final Cache<String, LoginResponseDto> memo;
+
+    public LoginSingleFlight(LoginSingleFlightProperties loginSingleFlightProperties, MeterRegistry meterRegistry) {
+        this.loginSingleFlightProperties = loginSingleFlightProperties;
+        this.meterRegistry = meterRegistry;
+        this.memo = Caffeine.newBuilder()
+                .maximumSize(loginSingleFlightProperties.getMemoMaximumSize())
+                .expireAfterWrite(loginSingleFlightProperties.getMemoTtl())
+                .build();
+    }
+
+    /**
+     * 같은 자격 증명의 로그인이 진행 중이면 그 결과를 기다리고, 아니면 직접 실행
+     * @param provider   로그인 provider
+     * @param credential 클라이언트가 보낸 자격 증명 (null / 빈 값이면 합치지 않고 바로 실행)
+     * @param login      실제 로그인
+     */
+    public LoginResponseDto execute(Provider provider, String credential, Supplier<LoginResponseDto> login) {
+        if (!loginSingleFlightProperties.isEnabled() || credential == null || credential.isBlank()) {
+            return login.get();
+        }
+        String key = provider.name() + ":" + hash(credential);
+
+        LoginResponseDto memoized = memo.getIfPresent(key);
+        if (memoized != null) {
+            counter(provider, "memo").increment();
+            return memoized;
+        }
+
+        CompletableFuture<LoginResponseDto> mine = new CompletableFuture<>();
+        CompletableFuture<LoginResponseDto> existing = inflight.putIfAbsent(key, mine);
+        if (existing != null) {
+            counter(provider, "joined").increment();
+            return await(existing);
+        }
+
+        counter(provider, "leader").increment();
+        try {
+            LoginResponseDto result = login.get();
+            // inflight 에서 빠지기 전에 memo 에 먼저 넣어야 그 사이 도착한 재시도가 다시 실행되지 않음
+            memo.put(key, result);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    private static LoginResponseDto await(CompletableFuture<LoginResponseDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // leader 와 같은 예외를 그대로 전달 (컨트롤러의 예외 → 응답 매핑 유지)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Login failed", e.getCause());
+        }
+    }
+
+    private Counter counter(Provider provider, String result) {
+        return Counter.builder("auth.login.single_flight")
+                .tag("provider", provider.name().toLowerCase())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String hash(String credential) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(credential.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.poppang.be.test.domain.auth.config.SessionTokenProperties;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.auth.dto.response.SessionTokens;
+import com.poppang.be.test.domain.auth.dto.response.SignupResponseDto;
+import com.poppang.be.test.domain.auth.entity.RefreshToken;
+import com.poppang.be.test.domain.auth.infrastructure.RefreshTokenRepository;
+import com.poppang.be.test.domain.auth.util.SessionClaims;
+import com.poppang.be.test.domain.auth.util.SessionTokenCodec;
+import com.poppang.be.test.domain.users.entity.Users;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+세션 토큰 발급 / 검증
+- 액세스 토큰: 서명된 프로필 클레임 (검증에 DB 불필요, 대신 수정 사항은 만료(access-token-ttl) 전까지 반영되지 않음)
+- 리프레시 토큰: 랜덤 32바이트, DB 에는 SHA-256 해시만 저장하고 사용할 때마다 rotation
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SessionTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final SessionTokenProperties sessionTokenProperties;
+    private final SessionTokenCodec sessionTokenCodec;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    // 로그인 응답 (새 refresh family 시작)
+    @Transactional
+    public LoginResponseDto login(Users user) {
+        return LoginResponseDto.from(user, issue(user, UUID.randomUUID().toString()));
+    }
+
+    // 회원가입 응답 (새 refresh family 시작)
+    @Transactional
+    public SignupResponseDto signup(Users user) {
+        return SignupResponseDto.from(user, issue(user, UUID.randomUUID().toString()));
+    }
+
+    /**
+     * 액세스 토큰만으로 자동 로그인 응답 생성 (DB 조회 없음)
+     * @return 만료됐거나 검증할 수 없는 토큰이면 empty (refresh 로 재발급 필요)
+     *         - 키 교체로 kid 가 빠졌거나 서명이 맞지 않는 토큰도 리프레시 토큰이 유효하면 재발급되어야 함
+     */
+    public Optional<LoginResponseDto> authenticate(String accessToken) {
+        SessionClaims claims;
+        try {
+            claims = sessionTokenCodec.decode(accessToken);
+        } catch (IllegalArgumentException e) {
+            log.debug("Unverifiable access token, falling back to refresh: {}", e.getMessage());
+            return Optional.empty();
+        }
+        if (claims.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(LoginResponseDto.from(claims));
+    }
+
+    /**
+     * 리프레시 토큰 rotation (기존 토큰 revoke → 같은 family 로 새 토큰 발급)
+     * 이미 revoke 된 토큰이 다시 쓰이면 탈취로 보고 family 전체 revoke (이 revoke 는 예외가 나도 커밋)
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public LoginResponseDto refresh(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다. "));
+
+        if (stored.isRevoked()) {
+            int revoked = refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            log.warn("Reused refresh token, revoked family {} ({} tokens)", stored.getFamilyId(), revoked);
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다. ");
+        }
+        if (stored.isExpired(LocalDateTime.now(ZONE))) {
+            throw new IllegalArgumentException("만료된 토큰입니다. ");
+        }
+
+        Users user = stored.getUser();
+        if (user.isDeleted()) {
+            refreshTokenRepository.revokeFamily(stored.getFamilyId());
+            throw new IllegalArgumentException("유저를 찾을 수 없습니다. ");
+        }
+
+        stored.revoke();
+        return LoginResponseDto.from(user, issue(user, stored.getFamilyId()));
+    }
+
+    private SessionTokens issue(Users user, String familyId) {
+        Instant now = Instant.now();
+
+        SessionClaims claims = SessionClaims.of(
+                sessionTokenCodec.getIssuer(),
+                user,
+                now,
+                sessionTokenProperties.getAccessTokenTtl()
+        );
+        String accessToken = sessionTokenCodec.encode(claims);
+
+        byte[] random = new byte[32];
+        RANDOM.nextBytes(random);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        Instant refreshExpiresAt = now.plus(sessionTokenProperties.getRefreshTokenTtl());
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .familyId(familyId)
+                .user(user)
+                .expiresAt(LocalDateTime.ofInstant(refreshExpiresAt, ZONE))
+                .build());
+
+        return new SessionTokens(
+                accessToken,
+                Instant.ofEpochSecond(claims.expiresAt()),
+                refreshToken,
+                refreshExpiresAt
+        );
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.poppang.be.test.domain.auth.config.CredentialCacheProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/*
+검증이 끝난 provider 자격 증명(id_token / access token) -> 유저 식별 정보 캐시
+- 키는 provider + 자격 증명의 SHA-256 (토큰 원문은 보관하지 않음)
+- 엔트리마다 토큰 자신의 exp(- expiry-skew) 까지만 유지, max-ttl 보다 길게는 두지 않음
+- 크기는 엔트리별 추정 byte 로 가중치를 매겨 maximum-weight-bytes 안에서만 유지
+- 히트/미스 지표는 auth.verified_credential 캐시 메트릭으로 노출
+ */
+@Component
+public class VerifiedCredentialCache {
+
+    // 엔트리 고정 비용 추정치 (노드 + record + 문자열 헤더)
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private final CredentialCacheProperties credentialCacheProperties;
+    private final Cache<String, Identity> identities;
+
+    public VerifiedCredentialCache(CredentialCacheProperties credentialCacheProperties, MeterRegistry meterRegistry) {
+        this.credentialCacheProperties = credentialCacheProperties;
+        this.identities = Caffeine.newBuilder()
+                .maximumWeight(credentialCacheProperties.getMaximumWeightBytes())
+                .weigher(VerifiedCredentialCache::weigh)
+                .expireAfter(Expiry.creating(this::timeToLive))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, identities, "auth.verified_credential");
+    }
+
+    /**
+     * 캐시된 식별 정보 반환, 없으면 verifier 로 검증 후 저장
+     * @param provider   자격 증명을 발급한 provider
+     * @param credential id_token 또는 access token
+     * @param verifier   캐시 미스 시 실제 검증 (서명 검증 or provider 호출)
+     */
+    public Identity resolve(Provider provider, String credential, Supplier<Identity> verifier) {
+        if (!credentialCacheProperties.isEnabled() || credential == null || credential.isBlank()) {
+            return verifier.get();
+        }
+        String key = provider.name() + ":" + hash(credential);
+
+        Identity cached = identities.getIfPresent(key);
+        if (cached != null && Instant.now().isBefore(cached.expiresAt())) {
+            return cached;
+        }
+
+        Identity verified = verifier.get();
+        if (!timeToLive(key, verified).isZero()) {
+            identities.put(key, verified);
+        }
+        return verified;
+    }
+
+    private Duration timeToLive(String key, Identity identity) {
+        Duration untilExpiry = Duration.between(Instant.now(), identity.expiresAt())
+                .minus(credentialCacheProperties.getExpirySkew());
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(credentialCacheProperties.getMaxTtl()) < 0
+                ? untilExpiry
+                : credentialCacheProperties.getMaxTtl();
+    }
+
+    private static int weigh(String key, Identity identity) {
+        return ENTRY_OVERHEAD_BYTES
+                + key.length()
+                + length(identity.uid()) * 2
+                + length(identity.email()) * 2;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static String hash(String credential) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(credential.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 검증된 자격 증명의 주인 (uid = provider 의 sub / 회원번호)
+    public record Identity(String uid, String email, Instant expiresAt) {
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.poppang.be.test.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.credential-cache")
+public class CredentialCacheProperties {
+
+    private boolean enabled = true;
+
+    // 캐시 전체 메모리 상한 (엔트리 크기 추정치 합계, byte)
+    private long maximumWeightBytes = 8L * 1024 * 1024;
+
+    // 토큰 exp 와 별개로 적용하는 최대 보관 시간 (provider 쪽에서 토큰이 폐기돼도 이 시간 안에는 반영)
+    private Duration maxTtl = Duration.ofHours(1);
+
+    // exp 보다 이만큼 먼저 만료 (서버 간 시계 오차 대비)
+    private Duration expirySkew = Duration.ofSeconds(30);
+
+}
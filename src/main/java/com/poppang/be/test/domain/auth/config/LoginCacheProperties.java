@@ -0,0 +1,24 @@
+package com.poppang.be.test.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.login-cache")
+public class LoginCacheProperties {
+
+    // 구버전 uid 자동 로그인(auth.session-token.legacy-uid-login) 에서만 쓰임
+    private boolean enabled = true;
+    private long maximumSize = 100_000L;
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // 무효화 표식(tombstone) 보존 시간: DB 조회 1회보다 충분히 길어야 함
+    private Duration tombstoneTtl = Duration.ofMinutes(1);
+
+}
@@ -0,0 +1,22 @@
+package com.poppang.be.test.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.single-flight")
+public class LoginSingleFlightProperties {
+
+    private boolean enabled = true;
+
+    // 끝난 로그인 결과 보관 시간 (조금 늦게 도착한 재시도용, 짧게 유지)
+    private Duration memoTtl = Duration.ofSeconds(3);
+    private long memoMaximumSize = 10_000L;
+
+}
@@ -0,0 +1,32 @@
+package com.poppang.be.test.domain.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.session-token")
+public class SessionTokenProperties {
+
+    private String issuer = "poppang";
+
+    // kid -> HMAC 키(Base64, 32바이트 이상)
+    // 교체 절차: 새 kid 추가 → active-kid 변경 → access-token-ttl 이 지난 뒤 옛 kid 제거
+    private Map<String, String> keys = new LinkedHashMap<>();
+    private String activeKid;
+
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+    private Duration refreshTokenTtl = Duration.ofDays(30);
+
+    // 토큰 없이 uid 만 보내는 구버전 앱의 자동 로그인 허용 여부
+    // uid 는 비밀값이 아니라 켜 두면 uid 만 알아도 로그인 응답을 받을 수 있음 → 기본 off, 구버전 앱 지원 기간에만 켬
+    private boolean legacyUidLogin = false;
+
+}
@@ -7,4 +7,8 @@ public class AutoLoginRequestDto {
 
     private String uid;
 
+    // 로그인 때 받은 세션 토큰 (없으면 uid 로 조회, auth.session-token.legacy-uid-login 이 켜진 경우만)
+    private String accessToken;
+    private String refreshToken;
+
 }
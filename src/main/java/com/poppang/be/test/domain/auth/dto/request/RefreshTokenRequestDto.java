@@ -0,0 +1,10 @@
+package com.poppang.be.test.domain.auth.dto.request;
+
+import lombok.Getter;
+
+@Getter
+public class RefreshTokenRequestDto {
+
+    private String refreshToken;
+
+}
@@ -1,13 +1,17 @@
 package com.poppang.be.test.domain.auth.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.auth.util.SessionClaims;
 import com.poppang.be.test.domain.users.entity.Provider;
 import com.poppang.be.test.domain.users.entity.Users;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Getter
 @NoArgsConstructor
 public class LoginResponseDto {
@@ -22,6 +26,16 @@ public class LoginResponseDto {
     private boolean alerted;
     private String fcmToken;
 
+    // 세션 토큰 (자동 로그인은 accessToken 으로, 만료되면 refreshToken 으로 재발급)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String accessToken;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant accessTokenExpiresAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String refreshToken;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant refreshTokenExpiresAt;
+
     @Builder
     public LoginResponseDto(String uid,
                             Provider provider,
@@ -29,7 +43,11 @@ public class LoginResponseDto {
                             String nickname,
                             Role role,
                             boolean alerted,
-                            String fcmToken) {
+                            String fcmToken,
+                            String accessToken,
+                            Instant accessTokenExpiresAt,
+                            String refreshToken,
+                            Instant refreshTokenExpiresAt) {
         this.uid = uid;
         this.provider = provider;
         this.email = email;
@@ -37,6 +55,10 @@ public class LoginResponseDto {
         this.role = role;
         this.alerted = alerted;
         this.fcmToken = fcmToken;
+        this.accessToken = accessToken;
+        this.accessTokenExpiresAt = accessTokenExpiresAt;
+        this.refreshToken = refreshToken;
+        this.refreshTokenExpiresAt = refreshTokenExpiresAt;
     }
 
     public static LoginResponseDto from(Users user) {
@@ -51,4 +73,33 @@ public class LoginResponseDto {
                 .build();
     }
 
+    public static LoginResponseDto from(Users user, SessionTokens sessionTokens) {
+        return LoginResponseDto.builder()
+                .uid(user.getUid())
+                .provider(user.getProvider())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .alerted(user.isAlerted())
+                .fcmToken(user.getFcmToken())
+                .accessToken(sessionTokens.accessToken())
+                .accessTokenExpiresAt(sessionTokens.accessTokenExpiresAt())
+                .refreshToken(sessionTokens.refreshToken())
+                .refreshTokenExpiresAt(sessionTokens.refreshTokenExpiresAt())
+                .build();
+    }
+
+    // 액세스 토큰 클레임으로 응답 생성 (DB 조회 없음)
+    public static LoginResponseDto from(SessionClaims claims) {
+        return LoginResponseDto.builder()
+                .uid(claims.uid())
+                .provider(claims.provider())
+                .email(claims.email())
+                .nickname(claims.nickname())
+                .role(claims.role())
+                .alerted(claims.alerted())
+                .fcmToken(claims.fcmToken())
+                .build();
+    }
+
 }
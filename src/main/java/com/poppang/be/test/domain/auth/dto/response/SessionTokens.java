@@ -0,0 +1,10 @@
+package com.poppang.be.test.domain.auth.dto.response;
+
+import java.time.Instant;
+
+// 로그인 / 회원가입 응답에 실어 보내는 토큰 묶음
+public record SessionTokens(String accessToken,
+                            Instant accessTokenExpiresAt,
+                            String refreshToken,
+                            Instant refreshTokenExpiresAt) {
+}
@@ -1,5 +1,6 @@
 package com.poppang.be.test.domain.auth.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.poppang.be.test.common.enums.Role;
 import com.poppang.be.test.domain.users.entity.Provider;
@@ -8,6 +9,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Getter
 @NoArgsConstructor
 public class SignupResponseDto {
@@ -22,6 +25,16 @@ public class SignupResponseDto {
     private boolean alerted;
     private String fcmToken;
 
+    // 세션 토큰 (자동 로그인은 accessToken 으로, 만료되면 refreshToken 으로 재발급)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String accessToken;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant accessTokenExpiresAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String refreshToken;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant refreshTokenExpiresAt;
+
     @Builder
     public SignupResponseDto(String uid,
                              Provider provider,
@@ -29,7 +42,11 @@ public class SignupResponseDto {
                              String nickname,
                              Role role,
                              boolean alerted,
-                             String fcmToken) {
+                             String fcmToken,
+                             String accessToken,
+                             Instant accessTokenExpiresAt,
+                             String refreshToken,
+                             Instant refreshTokenExpiresAt) {
         this.uid = uid;
         this.provider = provider;
         this.email = email;
@@ -37,6 +54,10 @@ public class SignupResponseDto {
         this.role = role;
         this.alerted = alerted;
         this.fcmToken = fcmToken;
+        this.accessToken = accessToken;
+        this.accessTokenExpiresAt = accessTokenExpiresAt;
+        this.refreshToken = refreshToken;
+        this.refreshTokenExpiresAt = refreshTokenExpiresAt;
     }
 
     public static SignupResponseDto from(Users user) {
@@ -51,4 +72,20 @@ public class SignupResponseDto {
                 .build();
     }
 
+    public static SignupResponseDto from(Users user, SessionTokens sessionTokens) {
+        return SignupResponseDto.builder()
+                .uid(user.getUid())
+                .provider(user.getProvider())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .role(user.getRole())
+                .alerted(user.isAlerted())
+                .fcmToken(user.getFcmToken())
+                .accessToken(sessionTokens.accessToken())
+                .accessTokenExpiresAt(sessionTokens.accessTokenExpiresAt())
+                .refreshToken(sessionTokens.refreshToken())
+                .refreshTokenExpiresAt(sessionTokens.refreshTokenExpiresAt())
+                .build();
+    }
+
 }
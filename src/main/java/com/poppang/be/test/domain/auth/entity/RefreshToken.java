@@ -0,0 +1,63 @@
+package com.poppang.be.test.domain.auth.entity;
+
+import com.poppang.be.test.common.entity.BaseEntity;
+import com.poppang.be.test.domain.users.entity.Users;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+리프레시 토큰 (원문은 저장하지 않고 SHA-256 해시만 보관)
+- 사용할 때마다 revoke 후 같은 family 로 새 토큰 발급 (rotation)
+- 이미 revoke 된 토큰이 다시 오면 탈취로 보고 family 전체 revoke
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "refresh_token",
+        indexes = @Index(name = "idx_refresh_token_family", columnList = "family_id")
+)
+public class RefreshToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "users_id", nullable = false)
+    private Users user;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "is_revoked", nullable = false)
+    private boolean revoked = false;
+
+    @Builder
+    public RefreshToken(String tokenHash, String familyId, Users user, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.user = user;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public void revoke() {
+        this.revoked = true;
+    }
+
+}
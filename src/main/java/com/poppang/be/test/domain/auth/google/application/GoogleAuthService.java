@@ -1,88 +1,136 @@
 package com.poppang.be.test.domain.auth.google.application;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.jackson2.JacksonFactory;
-import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.common.config.ReactiveLoginProperties;
+import com.poppang.be.test.common.enums.LoginChannel;
+import com.poppang.be.test.common.enums.LoginStage;
+import com.poppang.be.test.common.http.OAuthCallGuard;
+import com.poppang.be.test.common.http.OAuthHttpClient;
+import com.poppang.be.test.common.http.OAuthWebClient;
+import com.poppang.be.test.common.metrics.LoginMetrics;
+import com.poppang.be.test.domain.auth.application.LoginSingleFlight;
+import com.poppang.be.test.domain.auth.application.SessionTokenService;
+import com.poppang.be.test.domain.auth.application.VerifiedCredentialCache;
 import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
 import com.poppang.be.test.domain.auth.dto.response.SignupResponseDto;
 import com.poppang.be.test.domain.auth.google.config.GoogleProperties;
 import com.poppang.be.test.domain.auth.google.dto.request.GoogleAppLoginRequestDto;
 import com.poppang.be.test.domain.auth.google.dto.response.GoogleTokenResponseDto;
 import com.poppang.be.test.domain.auth.google.dto.response.GoogleUserInfoResponseDto;
+import com.poppang.be.test.domain.auth.google.util.GoogleJwtVerifier;
 import com.poppang.be.test.domain.auth.kakao.dto.request.SignupRequestDto;
+import com.poppang.be.test.domain.users.application.NicknameIndex;
 import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.SignupCompletedEvent;
 import com.poppang.be.test.domain.users.entity.Users;
 import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.util.Collections;
+import java.time.Instant;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class GoogleAuthService {
 
     private final GoogleProperties googleProperties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OAuthHttpClient oAuthHttpClient;
+    private final OAuthCallGuard oAuthCallGuard;
     private final UsersRepository usersRepository;
-
-    // Web 로그인
-    @Transactional
+    private final NicknameIndex nicknameIndex;
+    private final GoogleJwtVerifier googleJwtVerifier;
+    private final OAuthWebClient oAuthWebClient;
+    private final ReactiveLoginProperties reactiveLoginProperties;
+    private final Scheduler loginDbScheduler;
+    private final LoginMetrics loginMetrics;
+    private final SessionTokenService sessionTokenService;
+    private final LoginSingleFlight loginSingleFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+
+    // Web 로그인 (provider 호출은 트랜잭션 밖, DB 는 upsert 구간에서만 사용)
     public LoginResponseDto webLogin(String authCode) {
-        GoogleTokenResponseDto googleToken = getAccessToken(authCode);
-        if (googleToken == null || googleToken.getAccessToken() == null || googleToken.getAccessToken().isBlank()) {
-            throw new IllegalStateException("Failed to retrieve google access token");
-        }
+        return loginMetrics.login(Provider.GOOGLE, LoginChannel.WEB, () -> {
+            GoogleTokenResponseDto googleToken = loginMetrics.stage(Provider.GOOGLE, LoginChannel.WEB, LoginStage.TOKEN_EXCHANGE,
+                    () -> getAccessToken(authCode));
+            if (googleToken == null || googleToken.getAccessToken() == null || googleToken.getAccessToken().isBlank()) {
+                throw new IllegalStateException("Failed to retrieve google access token");
+            }
 
-        GoogleUserInfoResponseDto googleUserInfoResponseDto = getUserInfo(googleToken.getAccessToken());
-        String uid = googleUserInfoResponseDto.getSub(); // sub == uid
+            GoogleUserInfoResponseDto googleUserInfoResponseDto = loginMetrics.stage(Provider.GOOGLE, LoginChannel.WEB, LoginStage.USER_INFO,
+                    () -> getUserInfo(googleToken.getAccessToken()));
+            String uid = googleUserInfoResponseDto.getSub(); // sub == uid
 
-        Users user = upsertByUid(uid, googleUserInfoResponseDto.getEmail());
+            Users user = loginMetrics.stage(Provider.GOOGLE, LoginChannel.WEB, LoginStage.UPSERT,
+                    () -> upsertByUid(uid, googleUserInfoResponseDto.getEmail()));
+
+            return sessionTokenService.login(user);
+        });
+    }
 
-        return LoginResponseDto.from(user);
+    // Web 로그인 (non-blocking: 토큰 교환 → user info → upsert 를 하나의 비동기 체인으로)
+    public Mono<LoginResponseDto> webLoginAsync(String authCode) {
+        Mono<LoginResponseDto> login = loginMetrics.stage(Provider.GOOGLE, LoginChannel.WEB, LoginStage.TOKEN_EXCHANGE,
+                        requestAccessToken(authCode).timeout(reactiveLoginProperties.getTokenExchangeTimeout()))
+                .filter(token -> token.getAccessToken() != null && !token.getAccessToken().isBlank())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Failed to retrieve google access token")))
+                .flatMap(token -> loginMetrics.stage(Provider.GOOGLE, LoginChannel.WEB, LoginStage.USER_INFO,
+                        requestUserInfo(token.getAccessToken()).timeout(reactiveLoginProperties.getProfileTimeout())))
+                .filter(userInfo -> userInfo.getSub() != null)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Google userinfo failed (empty sub)")))
+                .flatMap(userInfo -> loginMetrics.stage(Provider.GOOGLE, LoginChannel.WEB, LoginStage.UPSERT,
+                        Mono.fromCallable(() -> sessionTokenService.login(upsertByUid(userInfo.getSub(), userInfo.getEmail())))
+                                .subscribeOn(loginDbScheduler)
+                                .timeout(reactiveLoginProperties.getUpsertTimeout())))
+                .onErrorMap(WebClientException.class, e -> new IllegalStateException("Failed to call Google API", e));
+
+        return loginMetrics.login(Provider.GOOGLE, LoginChannel.WEB, login);
     }
 
-    // App 로그인
+    // App 로그인 (같은 자격 증명으로 동시에 온 재시도는 하나로 합침)
     public LoginResponseDto mobileLogin(GoogleAppLoginRequestDto googleAppLoginRequestDto) {
-        GoogleUserInfoResponseDto googleUserInfoResponseDto = parseIdTokenToProfile(googleAppLoginRequestDto.getIdToken());
+        return loginSingleFlight.execute(Provider.GOOGLE, googleAppLoginRequestDto.getIdToken(), () -> loginMetrics.login(Provider.GOOGLE, LoginChannel.MOBILE, () -> {
+            GoogleUserInfoResponseDto googleUserInfoResponseDto = loginMetrics.stage(Provider.GOOGLE, LoginChannel.MOBILE, LoginStage.ID_TOKEN_VERIFY,
+                    () -> parseIdTokenToProfile(googleAppLoginRequestDto.getIdToken()));
 
-        String uid = googleUserInfoResponseDto.getSub();
-        String email = googleUserInfoResponseDto.getEmail();
+            String uid = googleUserInfoResponseDto.getSub();
+            String email = googleUserInfoResponseDto.getEmail();
 
-        Users user = upsertByUid(uid, email);
+            Users user = loginMetrics.stage(Provider.GOOGLE, LoginChannel.MOBILE, LoginStage.UPSERT,
+                    () -> upsertByUid(uid, email));
 
-        return LoginResponseDto.from(user);
+            return sessionTokenService.login(user);
+        }));
     }
 
+    // id_token 검증 (같은 id_token 은 exp 까지 검증 결과 재사용)
     private GoogleUserInfoResponseDto parseIdTokenToProfile(String idToken) {
+        VerifiedCredentialCache.Identity identity = verifiedCredentialCache.resolve(Provider.GOOGLE, idToken,
+                () -> verifyIdToken(idToken));
+        return new GoogleUserInfoResponseDto(identity.uid(), identity.email(), null, null);
+    }
+
+    private VerifiedCredentialCache.Identity verifyIdToken(String idToken) {
         try {
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(),
-                    new JacksonFactory()
-            )
-                    .setAudience(Collections.singletonList(googleProperties.getClientId()))
-                    .build();
-
-            GoogleIdToken token = verifier.verify(idToken);
-            if (token == null) {
+            GoogleIdToken.Payload p = googleJwtVerifier.verify(idToken);
+            if (p == null) {
                 throw new IllegalStateException("Invalid Google id_token");
             }
 
-            GoogleIdToken.Payload p = token.getPayload();
-
             String sub = p.getSubject();  // UID
             String email = p.getEmail();  // email (동의 안 했으면 null)
-            String name = (String) p.get("name");
-            String picture = (String) p.get("picture");
 
-            return new GoogleUserInfoResponseDto(sub, email, name, picture);
+            return new VerifiedCredentialCache.Identity(sub, email, Instant.ofEpochSecond(p.getExpirationTimeSeconds()));
         } catch (Exception e) {
             throw new IllegalStateException("Google id_token verification failed", e);
         }
@@ -91,7 +139,8 @@ public class GoogleAuthService {
     //회원가입
     public SignupResponseDto signup(SignupRequestDto signupRequestDto) {
 
-        if (usersRepository.existsByNickname(signupRequestDto.getNickname())) {
+        // 닉네임 중복 확인 (Bloom filter + 인덱스 조회)
+        if (nicknameIndex.isTaken(signupRequestDto.getNickname())) {
             throw new IllegalStateException("이미 사용 중인 닉네임입니다. ");
         }
 
@@ -99,43 +148,39 @@ public class GoogleAuthService {
                 .orElseThrow(() -> new IllegalStateException("유저를 찾을 수 없습니다. "));
 
         user.completeSignup(signupRequestDto);
-        usersRepository.save(user);
+        try {
+            // 다른 인스턴스와 동시에 같은 닉네임으로 가입한 경우 uk_users_nickname 위반
+            usersRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("이미 사용 중인 닉네임입니다. ");
+        }
+        nicknameIndex.add(user.getNickname());
+
+        // 타게팅 인덱스 등 후속 처리 (커밋 이후)
+        eventPublisher.publishEvent(new SignupCompletedEvent(user.getId(), user.isAlerted(), List.of(), List.of()));
 
-        return SignupResponseDto.from(user);
+        return sessionTokenService.signup(user);
     }
 
     // update + insert (존재하면 값 반환, 없으면 insert 후 반환)
     private Users upsertByUid(String uid, String email) {
-        return usersRepository.findByUid(uid)
-                .orElseGet(() -> usersRepository.save(
-                        Users.builder()
-                                .uid(uid)
-                                .provider(Provider.GOOGLE)
-                                .role(Role.MEMBER)
-                                .email(email)
-                                .build()
-                ));
+        return usersRepository.upsertByUid(uid, Provider.GOOGLE, email);
     }
 
     // 1. code -> 토큰
     private GoogleTokenResponseDto getAccessToken(String authorizationCode) {
         try {
-            MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
-            form.add("grant_type", "authorization_code");
-            form.add("code", authorizationCode);
-            form.add("client_id", googleProperties.getClientId());
-            form.add("client_secret", googleProperties.getClientSecret());
-            form.add("redirect_uri", googleProperties.getRedirectUri());
+            MultiValueMap<String, String> form = tokenRequestForm(authorizationCode);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
-            ResponseEntity<GoogleTokenResponseDto> res = restTemplate.exchange(
+            ResponseEntity<GoogleTokenResponseDto> res = oAuthCallGuard.execute(Provider.GOOGLE, () -> oAuthHttpClient.restTemplate(Provider.GOOGLE).exchange(
                     googleProperties.getTokenUri(),
                     HttpMethod.POST,
                     new HttpEntity<>(form, headers),
                     GoogleTokenResponseDto.class
-            );
+            ));
             GoogleTokenResponseDto body = res.getBody();
             if (body == null || body.getAccessToken() == null) {
                 throw new IllegalStateException("Google token exchange failed (empty response)");
@@ -153,12 +198,12 @@ public class GoogleAuthService {
             headers.setBearerAuth(accessToken);
             headers.setAccept(java.util.List.of(MediaType.APPLICATION_JSON));
 
-            ResponseEntity<GoogleUserInfoResponseDto> res = restTemplate.exchange(
+            ResponseEntity<GoogleUserInfoResponseDto> res = oAuthCallGuard.execute(Provider.GOOGLE, () -> oAuthHttpClient.restTemplate(Provider.GOOGLE).exchange(
                     googleProperties.getUserInfoUri(),
                     HttpMethod.GET,
                     new HttpEntity<>(headers),
                     GoogleUserInfoResponseDto.class
-            );
+            ));
             GoogleUserInfoResponseDto body = res.getBody();
             if (body == null || body.getSub() == null) {
                 throw new IllegalStateException("Google userinfo failed (empty sub)");
@@ -169,4 +214,36 @@ public class GoogleAuthService {
         }
     }
 
+    private MultiValueMap<String, String> tokenRequestForm(String authorizationCode) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", "authorization_code");
+        form.add("code", authorizationCode);
+        form.add("client_id", googleProperties.getClientId());
+        form.add("client_secret", googleProperties.getClientSecret());
+        form.add("redirect_uri", googleProperties.getRedirectUri());
+        return form;
+    }
+
+    // 1. code -> 토큰 (non-blocking)
+    private Mono<GoogleTokenResponseDto> requestAccessToken(String authorizationCode) {
+        return oAuthWebClient.webClient(Provider.GOOGLE).post()
+                .uri(googleProperties.getTokenUri())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(tokenRequestForm(authorizationCode)))
+                .retrieve()
+                .bodyToMono(GoogleTokenResponseDto.class)
+                .transform(call -> oAuthCallGuard.execute(Provider.GOOGLE, call));
+    }
+
+    // 2. 토큰 -> user info (non-blocking)
+    private Mono<GoogleUserInfoResponseDto> requestUserInfo(String accessToken) {
+        return oAuthWebClient.webClient(Provider.GOOGLE).get()
+                .uri(googleProperties.getUserInfoUri())
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(GoogleUserInfoResponseDto.class)
+                .transform(call -> oAuthCallGuard.execute(Provider.GOOGLE, call));
+    }
+
 }
@@ -0,0 +1,59 @@
+package com.poppang.be.test.domain.auth.google.config;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.poppang.be.test.domain.auth.google.util.GoogleCertsKeySource;
+import com.poppang.be.test.domain.auth.google.util.GoogleJwtVerifier;
+import com.poppang.be.test.domain.auth.google.util.GooglePublicKeySource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class GoogleAuthConfig {
+
+    // Google API client 공용 transport / JSON 팩토리 (요청마다 새로 만들지 않음)
+    @Bean
+    public HttpTransport googleHttpTransport() {
+        return new NetHttpTransport();
+    }
+
+    @Bean
+    public JsonFactory googleJsonFactory() {
+        return JacksonFactory.getDefaultInstance();
+    }
+
+    // 테스트에서는 로컬 RSA 키를 쓰는 GooglePublicKeySource 를 @Primary 빈으로 등록해서 교체
+    // (일반 @Configuration 에서는 @ConditionalOnMissingBean 이 등록 순서에 따라 달라져서 쓰지 않음)
+    @Bean
+    public GooglePublicKeySource googlePublicKeySource(HttpTransport googleHttpTransport,
+                                                       JsonFactory googleJsonFactory,
+                                                       GoogleProperties googleProperties,
+                                                       MeterRegistry meterRegistry) {
+        return new GoogleCertsKeySource(
+                googleHttpTransport,
+                googleJsonFactory,
+                googleProperties.getCertsUri(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public GoogleJwtVerifier googleJwtVerifier(JsonFactory googleJsonFactory,
+                                               GooglePublicKeySource googlePublicKeySource,
+                                               GoogleProperties googleProperties,
+                                               MeterRegistry meterRegistry) {
+        return new GoogleJwtVerifier(
+                googleJsonFactory,
+                googlePublicKeySource,
+                List.of(googleProperties.getClientId()),
+                googleProperties.getClockSkew().toSeconds(),
+                meterRegistry
+        );
+    }
+
+}
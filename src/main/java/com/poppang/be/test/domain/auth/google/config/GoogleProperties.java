@@ -5,6 +5,8 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Getter
 @Setter
 @Configuration
@@ -18,4 +20,8 @@ public class GoogleProperties {
     private String tokenUri;
     private String userInfoUri;
 
+    // id_token 서명 검증용 공개 인증서 엔드포인트 / 허용 시계 오차
+    private String certsUri = "https://www.googleapis.com/oauth2/v1/certs";
+    private Duration clockSkew = Duration.ofMinutes(5);
+
 }
@@ -0,0 +1,49 @@
+package com.poppang.be.test.domain.auth.google.util;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.json.JsonFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.List;
+
+/*
+Google certs 엔드포인트 기반 공개키 공급원
+- GooglePublicKeysManager 가 응답의 Cache-Control max-age 만큼 키를 캐시
+- 만료 시각이 바뀌면 실제로 certs 를 다시 받아온 것이므로 refresh 카운트 증가
+ */
+public class GoogleCertsKeySource implements GooglePublicKeySource {
+
+    private final GooglePublicKeysManager publicKeysManager;
+    private final Counter refreshCounter;
+
+    private volatile long lastExpirationMillis;
+
+    public GoogleCertsKeySource(HttpTransport transport,
+                                JsonFactory jsonFactory,
+                                String certsUri,
+                                MeterRegistry meterRegistry) {
+        this.publicKeysManager = new GooglePublicKeysManager.Builder(transport, jsonFactory)
+                .setPublicCertsEncodedUrl(certsUri)
+                .build();
+        this.refreshCounter = Counter.builder("google.certs.refresh")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<PublicKey> getPublicKeys() throws GeneralSecurityException, IOException {
+        List<PublicKey> publicKeys = publicKeysManager.getPublicKeys();
+
+        long expirationMillis = publicKeysManager.getExpirationTimeMilliseconds();
+        if (expirationMillis != lastExpirationMillis) {
+            lastExpirationMillis = expirationMillis;
+            refreshCounter.increment();
+        }
+        return publicKeys;
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.poppang.be.test.domain.auth.google.util;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.JsonFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+Google id_token 검증기 (기동 시 한 번 생성해서 재사용)
+- 서명: GooglePublicKeySource 의 공개키로 검증
+- 클레임: iss / aud(client_id) / exp·iat 검증
+ */
+public class GoogleJwtVerifier {
+
+    private static final List<String> ISSUERS = List.of("accounts.google.com", "https://accounts.google.com");
+
+    private final JsonFactory jsonFactory;
+    private final GooglePublicKeySource publicKeySource;
+    private final Collection<String> audience;
+    private final long acceptableTimeSkewSeconds;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public GoogleJwtVerifier(JsonFactory jsonFactory,
+                             GooglePublicKeySource publicKeySource,
+                             Collection<String> audience,
+                             long acceptableTimeSkewSeconds,
+                             MeterRegistry meterRegistry) {
+        this.jsonFactory = jsonFactory;
+        this.publicKeySource = publicKeySource;
+        this.audience = List.copyOf(audience);
+        this.acceptableTimeSkewSeconds = acceptableTimeSkewSeconds;
+
+        this.successTimer = Timer.builder("google.id_token.verify")
+                .tag("outcome", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("google.id_token.verify")
+                .tag("outcome", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Google id_token 검증
+     * @param idToken 앱에서 받은 id_token (JWT)
+     * @return 검증된 Payload, 검증 실패 시 null
+     */
+    public GoogleIdToken.Payload verify(String idToken) throws GeneralSecurityException, IOException {
+        long start = System.nanoTime();
+        GoogleIdToken.Payload payload = null;
+        try {
+            payload = doVerify(idToken);
+            return payload;
+        } finally {
+            Timer timer = (payload != null) ? successTimer : failureTimer;
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private GoogleIdToken.Payload doVerify(String idToken) throws GeneralSecurityException, IOException {
+        GoogleIdToken token = GoogleIdToken.parse(jsonFactory, idToken);
+
+        // 1) 서명 검증 (현재 공개키 중 하나로 검증되면 통과)
+        if (!verifySignature(token)) {
+            return null;
+        }
+
+        // 2) iss / aud / 시간 검증
+        if (!token.verifyIssuer(ISSUERS)
+                || !token.verifyAudience(audience)
+                || !token.verifyTime(System.currentTimeMillis(), acceptableTimeSkewSeconds)) {
+            return null;
+        }
+
+        return token.getPayload();
+    }
+
+    // kid 로 고르지 않고 키를 차례로 시도 (GooglePublicKeysManager 가 kid 없이 목록만 주고, 동시에 유효한 키는 보통 2개)
+    private boolean verifySignature(GoogleIdToken token) throws GeneralSecurityException, IOException {
+        for (PublicKey publicKey : publicKeySource.getPublicKeys()) {
+            if (token.verifySignature(publicKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.poppang.be.test.domain.auth.google.util;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.util.List;
+
+/*
+Google id_token 서명 검증에 쓰는 공개키 공급원
+- 운영: Google certs 엔드포인트 (Cache-Control max-age 동안 캐시)
+- 테스트: 로컬에서 생성한 RSA 공개키
+ */
+public interface GooglePublicKeySource {
+
+    List<PublicKey> getPublicKeys() throws GeneralSecurityException, IOException;
+
+}
@@ -1,32 +1,47 @@
 package com.poppang.be.test.domain.auth.kakao.application;
 
-import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.common.config.ReactiveLoginProperties;
+import com.poppang.be.test.common.enums.LoginChannel;
+import com.poppang.be.test.common.enums.LoginStage;
+import com.poppang.be.test.common.http.OAuthCallGuard;
+import com.poppang.be.test.common.http.OAuthHttpClient;
+import com.poppang.be.test.common.http.OAuthWebClient;
+import com.poppang.be.test.common.metrics.LoginMetrics;
 import com.poppang.be.test.domain.auth.kakao.config.KakaoProperties;
 import com.poppang.be.test.domain.auth.kakao.dto.request.KakaoAppLoginRequestDto;
 import com.poppang.be.test.domain.auth.kakao.dto.request.SignupRequestDto;
+import com.poppang.be.test.domain.auth.kakao.dto.response.KakaoAccessTokenInfoResponseDto;
 import com.poppang.be.test.domain.auth.kakao.dto.response.KakaoTokenResponseDto;
 import com.poppang.be.test.domain.auth.kakao.dto.response.KakaoUserInfoResponseDto;
+import com.poppang.be.test.domain.auth.application.LoginSingleFlight;
+import com.poppang.be.test.domain.auth.application.SessionTokenService;
+import com.poppang.be.test.domain.auth.application.VerifiedCredentialCache;
 import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
 import com.poppang.be.test.domain.auth.dto.response.SignupResponseDto;
-import com.poppang.be.test.domain.keyword.entity.UserKeyword;
-import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordRepository;
-import com.poppang.be.test.domain.recommend.entity.Recommend;
-import com.poppang.be.test.domain.recommend.entity.UserRecommend;
-import com.poppang.be.test.domain.recommend.infrastructure.RecommendRepository;
-import com.poppang.be.test.domain.recommend.infrastructure.UserRecommendRepository;
+import com.poppang.be.test.domain.keyword.application.KeywordDictionary;
+import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordBulkRepository;
+import com.poppang.be.test.domain.recommend.application.RecommendCatalogCache;
+import com.poppang.be.test.domain.recommend.infrastructure.UserRecommendBulkRepository;
+import com.poppang.be.test.domain.users.application.NicknameIndex;
 import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.SignupCompletedEvent;
 import com.poppang.be.test.domain.users.entity.Users;
 import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -34,86 +49,120 @@ import java.util.Optional;
 public class KakaoAuthService {
 
     private final KakaoProperties kakaoProperties;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OAuthHttpClient oAuthHttpClient;
+    private final OAuthCallGuard oAuthCallGuard;
     private final UsersRepository usersRepository;
-    private final UserKeywordRepository userKeywordRepository;
-    private final UserRecommendRepository userRecommendRepository;
-    private final RecommendRepository recommendRepository;
+    private final NicknameIndex nicknameIndex;
+    private final KeywordDictionary keywordDictionary;
+    private final UserKeywordBulkRepository userKeywordBulkRepository;
+    private final UserRecommendBulkRepository userRecommendBulkRepository;
+    private final RecommendCatalogCache recommendCatalogCache;
+    private final OAuthWebClient oAuthWebClient;
+    private final ReactiveLoginProperties reactiveLoginProperties;
+    private final Scheduler loginDbScheduler;
+    private final LoginMetrics loginMetrics;
+    private final SessionTokenService sessionTokenService;
+    private final LoginSingleFlight loginSingleFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VerifiedCredentialCache verifiedCredentialCache;
+    private final TransactionTemplate transactionTemplate;
 
-    // Web 로그인
-    @Transactional
+    // Web 로그인 (provider 호출은 트랜잭션 밖, DB 는 upsert 구간에서만 사용)
     public LoginResponseDto webLogin(String authCode) {
-        KakaoTokenResponseDto kakaoToken = getAccessToken(authCode);
-        if (kakaoToken == null || kakaoToken.getAccessToken() == null || kakaoToken.getAccessToken().isBlank()) {
-            throw new IllegalStateException("Failed to retrieve Kakao access token");
-        }
+        return loginMetrics.login(Provider.KAKAO, LoginChannel.WEB, () -> {
+            KakaoTokenResponseDto kakaoToken = loginMetrics.stage(Provider.KAKAO, LoginChannel.WEB, LoginStage.TOKEN_EXCHANGE,
+                    () -> getAccessToken(authCode));
+            if (kakaoToken == null || kakaoToken.getAccessToken() == null || kakaoToken.getAccessToken().isBlank()) {
+                throw new IllegalStateException("Failed to retrieve Kakao access token");
+            }
 
-        KakaoUserInfoResponseDto kakaoUserInfoResponseDto = getUserInfo(kakaoToken.getAccessToken());
-        String uid = String.valueOf(kakaoUserInfoResponseDto.getId());
+            KakaoUserInfoResponseDto kakaoUserInfoResponseDto = loginMetrics.stage(Provider.KAKAO, LoginChannel.WEB, LoginStage.USER_INFO,
+                    () -> getUserInfo(kakaoToken.getAccessToken()));
+            String uid = String.valueOf(kakaoUserInfoResponseDto.getId());
 
-        Users user = upsertByUid(uid);
+            Users user = loginMetrics.stage(Provider.KAKAO, LoginChannel.WEB, LoginStage.UPSERT,
+                    () -> upsertByUid(uid));
 
-        return LoginResponseDto.from(user);
+            return sessionTokenService.login(user);
+        });
     }
 
-    // App 로그인
-    public LoginResponseDto mobileLogin(KakaoAppLoginRequestDto kakaoAppLoginRequestDto) {
+    // Web 로그인 (non-blocking: 토큰 교환 → user info → upsert 를 하나의 비동기 체인으로)
+    public Mono<LoginResponseDto> webLoginAsync(String authCode) {
+        Mono<LoginResponseDto> login = loginMetrics.stage(Provider.KAKAO, LoginChannel.WEB, LoginStage.TOKEN_EXCHANGE,
+                        requestAccessToken(authCode).timeout(reactiveLoginProperties.getTokenExchangeTimeout()))
+                .filter(token -> token.getAccessToken() != null && !token.getAccessToken().isBlank())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Failed to retrieve Kakao access token")))
+                .flatMap(token -> loginMetrics.stage(Provider.KAKAO, LoginChannel.WEB, LoginStage.USER_INFO,
+                        requestUserInfo(token.getAccessToken()).timeout(reactiveLoginProperties.getProfileTimeout())))
+                .flatMap(userInfo -> loginMetrics.stage(Provider.KAKAO, LoginChannel.WEB, LoginStage.UPSERT,
+                        Mono.fromCallable(() -> sessionTokenService.login(upsertByUid(String.valueOf(userInfo.getId()))))
+                                .subscribeOn(loginDbScheduler)
+                                .timeout(reactiveLoginProperties.getUpsertTimeout())))
+                .onErrorMap(WebClientException.class, e -> new IllegalStateException("Failed to call Kakao API", e));
 
-        KakaoUserInfoResponseDto kakaoUserInfoResponseDto = getUserInfo(kakaoAppLoginRequestDto.getAccessToken());
-        String uid = String.valueOf(kakaoUserInfoResponseDto.getId());
+        return loginMetrics.login(Provider.KAKAO, LoginChannel.WEB, login);
+    }
 
-        Users user = upsertByUid(uid);
+    // App 로그인 (같은 자격 증명으로 동시에 온 재시도는 하나로 합침)
+    public LoginResponseDto mobileLogin(KakaoAppLoginRequestDto kakaoAppLoginRequestDto) {
+        return loginSingleFlight.execute(Provider.KAKAO, kakaoAppLoginRequestDto.getAccessToken(), () -> loginMetrics.login(Provider.KAKAO, LoginChannel.MOBILE, () -> {
+            VerifiedCredentialCache.Identity identity = loginMetrics.stage(Provider.KAKAO, LoginChannel.MOBILE, LoginStage.USER_INFO,
+                    () -> resolveAccessToken(kakaoAppLoginRequestDto.getAccessToken()));
+            String uid = identity.uid();
+
+            Users user = loginMetrics.stage(Provider.KAKAO, LoginChannel.MOBILE, LoginStage.UPSERT,
+                    () -> upsertByUid(uid));
 
-        return LoginResponseDto.from(user);
+            return sessionTokenService.login(user);
+        }));
     }
 
     // 회원가입
-    @Transactional
+    // - 키워드 / 추천 id 변환은 트랜잭션 밖에서 먼저 (새 키워드 등록이 별도 트랜잭션이라 안에서 하면 커넥션을 2개 잡음)
+    // - 유저 갱신 + 키워드 / 추천 저장 + 세션 발급만 한 트랜잭션
     public SignupResponseDto signup(SignupRequestDto signupRequestDto) {
-
-        // 닉네임 중복 확인
-        if (usersRepository.existsByNickname(signupRequestDto.getNickname())) {
+        // 닉네임 중복 확인 (Bloom filter + 인덱스 조회)
+        if (nicknameIndex.isTaken(signupRequestDto.getNickname())) {
             throw new IllegalArgumentException("이미 사용 중인 닉네임입니다. ");
         }
 
-        Users user = usersRepository.findByUid(signupRequestDto.getUid())
-                .orElseThrow(() -> new IllegalStateException("유저를 찾을 수 없습니다. "));
-
-        user.completeSignup(signupRequestDto);
-        usersRepository.save(user);
+        // 키워드 id 일괄 변환 (없는 이름은 사전이 등록)
+        List<Integer> keywordIds = keywordDictionary.resolveIds(
+                Optional.ofNullable(signupRequestDto.getKeywordList()).orElseGet(List::of)
+        );
+        // 추천 id 검증 (카탈로그 캐시, FK 는 id 그대로 사용)
+        List<Long> recommendIds = recommendCatalogCache.resolveIds(
+                Optional.ofNullable(signupRequestDto.getRecommendList()).orElseGet(List::of)
+        );
 
-        // 키워드 저장
-        for (String keyword : signupRequestDto.getKeywordList()) {
-            userKeywordRepository.save(new UserKeyword(user, keyword));
-        }
+        return transactionTemplate.execute(status -> {
+            Users user = usersRepository.findByUid(signupRequestDto.getUid())
+                    .orElseThrow(() -> new IllegalStateException("유저를 찾을 수 없습니다. "));
 
-        // 추천 저장
-        List<Long> recommendIds = Optional.ofNullable(signupRequestDto.getRecommendList())
-                .orElseGet(List::of)
-                .stream()
-                .filter(Objects::nonNull)
-                .distinct()
-                .toList();
-
-        if (!recommendIds.isEmpty()) {
-            List<Recommend> recommendList = recommendRepository.findAllById(recommendIds);
-            for (Recommend recommend : recommendList) {
-                userRecommendRepository.save(new UserRecommend(user, recommend));
+            user.completeSignup(signupRequestDto);
+            try {
+                // 다른 인스턴스와 동시에 같은 닉네임으로 가입한 경우 uk_users_nickname 위반
+                usersRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                throw new IllegalArgumentException("이미 사용 중인 닉네임입니다. ");
             }
-        }
-        return SignupResponseDto.from(user);
+            nicknameIndex.add(user.getNickname());
+
+            // 키워드 / 추천 저장 (각각 multi-row INSERT 한 번)
+            userKeywordBulkRepository.insertAll(user.getId(), keywordIds);
+            userRecommendBulkRepository.insertAll(user.getId(), recommendIds);
+
+            // 타게팅 인덱스 등 후속 처리 (커밋 이후)
+            eventPublisher.publishEvent(new SignupCompletedEvent(user.getId(), user.isAlerted(), keywordIds, recommendIds));
+
+            return sessionTokenService.signup(user);
+        });
     }
 
     // update + insert (존재하면 값 반환, 없으면 insert 후 반환)
     private Users upsertByUid(String uid) {
-        return usersRepository.findByUid(uid)
-                .orElseGet(() -> usersRepository.save(
-                        Users.builder()
-                                .uid((uid))
-                                .provider(Provider.KAKAO)
-                                .role(Role.MEMBER)
-                                .build()
-                ));
+        return usersRepository.upsertByUid(uid, Provider.KAKAO, null);
     }
 
     // 1. code -> 토큰
@@ -121,20 +170,14 @@ public class KakaoAuthService {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
 
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", "authorization_code");
-        params.add("client_id", kakaoProperties.getClientId());
-        params.add("redirect_uri", kakaoProperties.getRedirectUri());
-        params.add("code", code);
-
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
+        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(tokenRequestParams(code), headers);
 
-        ResponseEntity<KakaoTokenResponseDto> response = restTemplate.exchange(
+        ResponseEntity<KakaoTokenResponseDto> response = oAuthCallGuard.execute(Provider.KAKAO, () -> oAuthHttpClient.restTemplate(Provider.KAKAO).exchange(
                 kakaoProperties.getTokenUri(),
                 HttpMethod.POST,
                 request,
                 KakaoTokenResponseDto.class
-        );
+        ));
 
         return response.getBody();
     }
@@ -146,14 +189,83 @@ public class KakaoAuthService {
 
         HttpEntity<Void> req = new HttpEntity<>(headers);
 
-        ResponseEntity<KakaoUserInfoResponseDto> res = restTemplate.exchange(
-                "https://kapi.kakao.com/v2/user/me",
+        ResponseEntity<KakaoUserInfoResponseDto> res = oAuthCallGuard.execute(Provider.KAKAO, () -> oAuthHttpClient.restTemplate(Provider.KAKAO).exchange(
+                kakaoProperties.getUserInfoUri(),
                 HttpMethod.GET,
                 req,
                 KakaoUserInfoResponseDto.class
-        );
+        ));
+
+        return res.getBody();
+    }
+
+    // 3. 앱이 보낸 access token -> 회원번호 (같은 토큰은 만료(expires_in)까지 검증 결과 재사용)
+    // 다른 카카오 앱에서 발급된 토큰은 캐시하기 전에 거절 (그 앱 사용자의 회원번호로 로그인되지 않도록)
+    private VerifiedCredentialCache.Identity resolveAccessToken(String accessToken) {
+        Long appId = kakaoProperties.getAppId();
+        if (appId == null) {
+            throw new IllegalStateException("kakao.app-id is not configured");
+        }
+        return verifiedCredentialCache.resolve(Provider.KAKAO, accessToken, () -> {
+            KakaoAccessTokenInfoResponseDto tokenInfo = getAccessTokenInfo(accessToken);
+            if (tokenInfo == null || tokenInfo.getId() == null || tokenInfo.getExpiresIn() == null) {
+                throw new IllegalStateException("Failed to validate Kakao access token");
+            }
+            if (!appId.equals(tokenInfo.getAppId())) {
+                throw new IllegalArgumentException("유효하지 않은 토큰입니다. ");
+            }
+            return new VerifiedCredentialCache.Identity(
+                    String.valueOf(tokenInfo.getId()),
+                    null,
+                    Instant.now().plusSeconds(tokenInfo.getExpiresIn())
+            );
+        });
+    }
+
+    private KakaoAccessTokenInfoResponseDto getAccessTokenInfo(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+
+        HttpEntity<Void> req = new HttpEntity<>(headers);
+
+        ResponseEntity<KakaoAccessTokenInfoResponseDto> res = oAuthCallGuard.execute(Provider.KAKAO, () -> oAuthHttpClient.restTemplate(Provider.KAKAO).exchange(
+                kakaoProperties.getAccessTokenInfoUri(),
+                HttpMethod.GET,
+                req,
+                KakaoAccessTokenInfoResponseDto.class
+        ));
 
         return res.getBody();
     }
 
+    private MultiValueMap<String, String> tokenRequestParams(String code) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("grant_type", "authorization_code");
+        params.add("client_id", kakaoProperties.getClientId());
+        params.add("redirect_uri", kakaoProperties.getRedirectUri());
+        params.add("code", code);
+        return params;
+    }
+
+    // 1. code -> 토큰 (non-blocking)
+    private Mono<KakaoTokenResponseDto> requestAccessToken(String code) {
+        return oAuthWebClient.webClient(Provider.KAKAO).post()
+                .uri(kakaoProperties.getTokenUri())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(tokenRequestParams(code)))
+                .retrieve()
+                .bodyToMono(KakaoTokenResponseDto.class)
+                .transform(call -> oAuthCallGuard.execute(Provider.KAKAO, call));
+    }
+
+    // 2. 토큰 -> user info (non-blocking)
+    private Mono<KakaoUserInfoResponseDto> requestUserInfo(String accessToken) {
+        return oAuthWebClient.webClient(Provider.KAKAO).get()
+                .uri(kakaoProperties.getUserInfoUri())
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(KakaoUserInfoResponseDto.class)
+                .transform(call -> oAuthCallGuard.execute(Provider.KAKAO, call));
+    }
+
 }
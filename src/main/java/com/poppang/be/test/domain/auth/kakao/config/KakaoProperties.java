@@ -12,8 +12,11 @@ import org.springframework.stereotype.Component;
 public class KakaoProperties {
 
     private String clientId;
+    // 카카오 앱 ID (앱 키와 다른 숫자 ID), 앱이 보낸 access token 이 우리 앱에서 발급된 것인지 확인
+    private Long appId;
     private String redirectUri;
     private String tokenUri;
-    private String userInfoUri;
+    private String userInfoUri = "https://kapi.kakao.com/v2/user/me";
+    private String accessTokenInfoUri = "https://kapi.kakao.com/v1/user/access_token_info";
 
 }
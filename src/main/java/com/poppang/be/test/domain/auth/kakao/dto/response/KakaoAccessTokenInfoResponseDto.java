@@ -0,0 +1,19 @@
+package com.poppang.be.test.domain.auth.kakao.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+// GET /v1/user/access_token_info (토큰 유효성 + 회원번호 + 남은 유효 시간)
+@Getter
+public class KakaoAccessTokenInfoResponseDto {
+
+    private Long id;
+
+    // 남은 유효 시간 (초)
+    @JsonProperty("expires_in")
+    private Long expiresIn;
+
+    @JsonProperty("app_id")
+    private Long appId;
+
+}
@@ -4,6 +4,7 @@ import com.poppang.be.test.domain.auth.apple.application.AppleAuthService;
 import com.poppang.be.test.domain.auth.apple.dto.request.AppleAppLoginRequestDto;
 import com.poppang.be.test.domain.auth.application.AuthService;
 import com.poppang.be.test.domain.auth.dto.request.AutoLoginRequestDto;
+import com.poppang.be.test.domain.auth.dto.request.RefreshTokenRequestDto;
 import com.poppang.be.test.domain.auth.google.application.GoogleAuthService;
 import com.poppang.be.test.domain.auth.google.dto.request.GoogleAppLoginRequestDto;
 import com.poppang.be.test.domain.auth.kakao.application.KakaoAuthService;
@@ -14,6 +15,7 @@ import com.poppang.be.test.domain.auth.dto.response.SignupResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/v1/auth")
@@ -50,6 +52,28 @@ public class AuthController {
         return ResponseEntity.ok(loginResponseDto);
     }
 
+    /* ---------- 웹(브라우저)용: non-blocking 로그인 ---------- */
+    // [카카오] 로그인
+    @GetMapping("/kakao/async/login")
+    public Mono<ResponseEntity<LoginResponseDto>> kakaoWebLoginAsync(@RequestParam("code") String authCode) {
+        return kakaoAuthService.webLoginAsync(authCode)
+                .map(ResponseEntity::ok);
+    }
+
+    // [애플] 로그인
+    @GetMapping("/apple/async/login")
+    public Mono<ResponseEntity<LoginResponseDto>> appleWebLoginAsync(@RequestParam("code") String authCode) {
+        return appleAuthService.webLoginAsync(authCode)
+                .map(ResponseEntity::ok);
+    }
+
+    // [구글] 로그인
+    @GetMapping("/google/async/login")
+    public Mono<ResponseEntity<LoginResponseDto>> googleWebLoginAsync(@RequestParam("code") String authCode) {
+        return googleAuthService.webLoginAsync(authCode)
+                .map(ResponseEntity::ok);
+    }
+
     /* ---------- 앱(Native)용: POST JSON 바디 ---------- */
     // [카카오] 로그인
     @PostMapping("/kakao/mobile/login")
@@ -83,6 +107,14 @@ public class AuthController {
         return ResponseEntity.ok(loginResponseDto);
     }
 
+    /* ---------- 세션 토큰 재발급 ---------- */
+    @PostMapping("/token/refresh")
+    public ResponseEntity<LoginResponseDto> refreshToken(@RequestBody RefreshTokenRequestDto refreshTokenRequestDto) {
+        LoginResponseDto loginResponseDto = authService.refresh(refreshTokenRequestDto);
+
+        return ResponseEntity.ok(loginResponseDto);
+    }
+
     /* ---------- 회원가입 ---------- */
     // [카카오] 회원가입
     @PostMapping("/kakao/signup")
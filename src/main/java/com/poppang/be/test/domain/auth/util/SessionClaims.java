@@ -0,0 +1,46 @@
+package com.poppang.be.test.domain.auth.util;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.Users;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// 액세스 토큰 payload (자동 로그인 응답을 DB 없이 만들 수 있도록 프로필 전체를 담음)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SessionClaims(
+        @JsonProperty("iss") String issuer,
+        @JsonProperty("sub") String uid,
+        @JsonProperty("provider") Provider provider,
+        @JsonProperty("email") String email,
+        @JsonProperty("nickname") String nickname,
+        @JsonProperty("role") Role role,
+        @JsonProperty("alerted") boolean alerted,
+        @JsonProperty("fcm") String fcmToken,
+        @JsonProperty("iat") long issuedAt,
+        @JsonProperty("exp") long expiresAt
+) {
+
+    public static SessionClaims of(String issuer, Users user, Instant issuedAt, Duration ttl) {
+        return new SessionClaims(
+                issuer,
+                user.getUid(),
+                user.getProvider(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getRole(),
+                user.isAlerted(),
+                user.getFcmToken(),
+                issuedAt.getEpochSecond(),
+                issuedAt.plus(ttl).getEpochSecond()
+        );
+    }
+
+    public boolean isExpired(Instant now) {
+        return now.getEpochSecond() >= expiresAt;
+    }
+
+}
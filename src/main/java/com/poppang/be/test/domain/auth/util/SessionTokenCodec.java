@@ -0,0 +1,191 @@
+package com.poppang.be.test.domain.auth.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.poppang.be.test.domain.auth.config.SessionTokenProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/*
+액세스 토큰(HS256 JWT) 서명 / 검증
+- kid 별 HMAC 키는 기동 시 한 번 만들고, Mac 은 스레드별로 재사용
+- 검증 시 헤더는 JSON 파싱 없이 kid 별로 미리 만든 헤더 문자열과 비교 (헤더 = {"alg":"HS256","typ":"JWT","kid":...})
+- 서명 비교는 MessageDigest.isEqual (상수 시간)
+ */
+@Slf4j
+@Component
+public class SessionTokenCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // 키 미설정 시 임시 키로 기동을 허용하는 프로필 (그 외에는 기동 실패)
+    private static final Profiles EPHEMERAL_KEY_PROFILES = Profiles.of("local", "dev", "test");
+
+    private final String issuer;
+    private final List<SigningKey> keys;
+    private final SigningKey activeKey;
+
+    private final ObjectReader claimsReader;
+    private final ObjectWriter claimsWriter;
+
+    public SessionTokenCodec(SessionTokenProperties sessionTokenProperties,
+                             ObjectMapper objectMapper,
+                             Environment environment) {
+        this.issuer = sessionTokenProperties.getIssuer();
+        this.claimsReader = objectMapper.readerFor(SessionClaims.class);
+        this.claimsWriter = objectMapper.writerFor(SessionClaims.class);
+
+        Map<String, String> configured = sessionTokenProperties.getKeys();
+        List<SigningKey> loaded = new ArrayList<>();
+        if (configured.isEmpty()) {
+            // 운영에서 키가 빠지면 인스턴스마다 다른 키로 서명 → 재시작 / 다른 인스턴스에서 모든 세션이 무효가 되므로 기동을 막음
+            if (!environment.acceptsProfiles(EPHEMERAL_KEY_PROFILES)) {
+                throw new IllegalStateException(
+                        "auth.session-token.keys is required (an ephemeral key is only allowed with the local, dev or test profile)");
+            }
+            // 로컬 개발: 기동마다 바뀌는 임시 키 → 재시작 / 다른 인스턴스에서는 토큰이 무효
+            log.warn("auth.session-token.keys is not configured, using an ephemeral signing key");
+            byte[] secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            loaded.add(new SigningKey("ephemeral", secret));
+        } else {
+            configured.forEach((kid, secret) -> loaded.add(new SigningKey(kid, Base64.getDecoder().decode(secret))));
+        }
+        this.keys = List.copyOf(loaded);
+
+        String activeKid = sessionTokenProperties.getActiveKid();
+        this.activeKey = (activeKid == null)
+                ? keys.get(keys.size() - 1)
+                : keys.stream()
+                .filter(key -> key.kid.equals(activeKid))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown auth.session-token.active-kid: " + activeKid));
+    }
+
+    public String getIssuer() {
+        return issuer;
+    }
+
+    public String encode(SessionClaims claims) {
+        try {
+            String signingInput = activeKey.header + "." + ENCODER.encodeToString(claimsWriter.writeValueAsBytes(claims));
+            byte[] signature = activeKey.mac().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + ENCODER.encodeToString(signature);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize session claims", e);
+        }
+    }
+
+    /**
+     * 서명 / 발급자 검증 후 클레임 반환 (만료 여부는 호출하는 쪽에서 확인)
+     * @throws IllegalArgumentException 형식이 잘못됐거나 서명이 맞지 않는 경우
+     */
+    public SessionClaims decode(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = (headerEnd < 0) ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw invalidToken(null);
+        }
+
+        SigningKey key = findKey(token, headerEnd);
+        byte[] ascii = token.getBytes(StandardCharsets.US_ASCII);
+
+        // 1) 서명
+        Mac mac = key.mac();
+        mac.update(ascii, 0, payloadEnd);
+        if (!MessageDigest.isEqual(mac.doFinal(), base64Url(ascii, payloadEnd + 1, ascii.length))) {
+            throw invalidToken(null);
+        }
+
+        // 2) payload
+        SessionClaims claims;
+        try {
+            byte[] payload = base64Url(ascii, headerEnd + 1, payloadEnd);
+            claims = claimsReader.readValue(payload);
+        } catch (IOException e) {
+            throw invalidToken(e);
+        }
+
+        // 3) 발급자
+        if (!issuer.equals(claims.issuer())) {
+            throw invalidToken(null);
+        }
+        return claims;
+    }
+
+    private SigningKey findKey(String token, int headerEnd) {
+        for (SigningKey key : keys) {
+            if (key.header.length() == headerEnd && token.regionMatches(0, key.header, 0, headerEnd)) {
+                return key;
+            }
+        }
+        throw invalidToken(null);
+    }
+
+    // ascii[from, to) 구간을 base64url 디코딩 (잘못된 문자는 빈 배열 → 서명 불일치로 처리)
+    private static byte[] base64Url(byte[] ascii, int from, int to) {
+        try {
+            ByteBuffer decoded = DECODER.decode(ByteBuffer.wrap(ascii, from, to - from));
+            byte[] bytes = new byte[decoded.remaining()];
+            decoded.get(bytes);
+            return bytes;
+        } catch (IllegalArgumentException e) {
+            return new byte[0];
+        }
+    }
+
+    private static IllegalArgumentException invalidToken(Throwable cause) {
+        return new IllegalArgumentException("유효하지 않은 토큰입니다. ", cause);
+    }
+
+    private static final class SigningKey {
+
+        private final String kid;
+        private final String header;
+        private final ThreadLocal<Mac> macs;
+
+        private SigningKey(String kid, byte[] secret) {
+            if (secret.length < 32) {
+                throw new IllegalStateException("Session token key '" + kid + "' must be at least 256 bits");
+            }
+            SecretKeySpec secretKey = new SecretKeySpec(secret, "HmacSHA256");
+
+            this.kid = kid;
+            this.header = ENCODER.encodeToString(
+                    ("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + kid + "\"}").getBytes(StandardCharsets.UTF_8));
+            this.macs = ThreadLocal.withInitial(() -> {
+                try {
+                    Mac mac = Mac.getInstance("HmacSHA256");
+                    mac.init(secretKey);
+                    return mac;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("HmacSHA256 is not available", e);
+                }
+            });
+        }
+
+        private Mac mac() {
+            return macs.get();
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.poppang.be.test.domain.keyword.application;
+
+import com.poppang.be.test.domain.keyword.entity.Keyword;
+import com.poppang.be.test.domain.keyword.infrastructure.KeywordBulkRepository;
+import com.poppang.be.test.domain.keyword.infrastructure.KeywordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+키워드 사전 (이름 <-> int id 양방향 interning)
+- 기동 시 keyword 테이블 전체 적재, 이후 처음 보는 이름만 DB 에 일괄 등록
+- name -> id 는 ConcurrentHashMap, id -> name 은 id 를 index 로 쓰는 배열 (등록 시 복사 후 volatile 교체)
+- 새 이름 등록은 별도 트랜잭션 (가입이 롤백돼도 사전 id 는 유효하게 남도록)
+  바깥 트랜잭션 안에서 부르면 커넥션을 하나 더 잡으므로(풀 고갈 시 교착) 가입은 트랜잭션 시작 전에 호출
+ */
+@Slf4j
+@Component
+public class KeywordDictionary {
+
+    private final KeywordRepository keywordRepository;
+    private final KeywordBulkRepository keywordBulkRepository;
+    private final TransactionTemplate requiresNew;
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private volatile String[] namesById = new String[0];
+
+    public KeywordDictionary(KeywordRepository keywordRepository,
+                             KeywordBulkRepository keywordBulkRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.keywordRepository = keywordRepository;
+        this.keywordBulkRepository = keywordBulkRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Map<String, Integer> loaded = new LinkedHashMap<>();
+        for (Keyword keyword : keywordRepository.findAll()) {
+            loaded.put(keyword.getName(), keyword.getId());
+        }
+        register(loaded);
+        log.info("Loaded {} keywords into dictionary", loaded.size());
+    }
+
+    /**
+     * 키워드 이름 -> id 일괄 변환 (없는 이름은 한 번에 등록)
+     * @param keywords 키워드 이름 (앞뒤 공백 제거, 빈 값 / 중복 제외)
+     * @return 정규화된 이름 -> id (입력 순서 유지)
+     */
+    public Map<String, Integer> resolve(Collection<String> keywords) {
+        List<String> names = keywords.stream()
+                .filter(Objects::nonNull)
+                .map(String::strip)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+
+        List<String> missing = names.stream()
+                .filter(name -> !idsByName.containsKey(name))
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<String, Integer> created = requiresNew.execute(status -> {
+                keywordBulkRepository.insertIgnore(missing);
+                return keywordBulkRepository.findIds(missing);
+            });
+            register(created);
+        }
+
+        Map<String, Integer> resolved = new LinkedHashMap<>();
+        for (String name : names) {
+            Integer id = idsByName.get(name);
+            if (id == null) {
+                throw new IllegalStateException("Failed to register keyword: " + name);
+            }
+            resolved.put(name, id);
+        }
+        return resolved;
+    }
+
+    // 가입 시 사용: id 목록만
+    public List<Integer> resolveIds(Collection<String> keywords) {
+        return List.copyOf(resolve(keywords).values());
+    }
+
+    public String getName(int id) {
+        String[] names = namesById;
+        return (id >= 0 && id < names.length) ? names[id] : null;
+    }
+
+    public Integer getId(String name) {
+        return name == null ? null : idsByName.get(name.strip());
+    }
+
+    public int size() {
+        return idsByName.size();
+    }
+
+    private synchronized void register(Map<String, Integer> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        int maxId = entries.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+
+        String[] names = namesById;
+        String[] next = Arrays.copyOf(names, Math.max(names.length, maxId + 1));
+        entries.forEach((name, id) -> {
+            next[id] = name;
+            idsByName.put(name, id);
+        });
+        namesById = next;
+    }
+
+}
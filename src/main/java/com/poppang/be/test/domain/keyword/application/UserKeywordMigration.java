@@ -0,0 +1,84 @@
+package com.poppang.be.test.domain.keyword.application;
+
+import com.poppang.be.test.domain.keyword.config.KeywordMigrationProperties;
+import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordMigrationRepository;
+import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordMigrationRepository.LegacyRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+user_keyword_legacy(문자열) -> user_keyword(users_id, keyword_id) 이관
+- legacy 를 chunk-size 씩 id 순으로 읽어서, chunk 안의 키워드 이름을 사전에서 한 번에 id 로 변환 후 INSERT IGNORE
+- 한 번에 메모리에 올리는 건 chunk 하나뿐, chunk 마다 마지막 id 를 로그로 남김 (중단 시 start-after-id 로 재개)
+- 기동 후 별도 스레드에서 실행 (요청 처리와 병행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "keyword.migration", name = "enabled", havingValue = "true")
+public class UserKeywordMigration {
+
+    private final KeywordDictionary keywordDictionary;
+    private final UserKeywordMigrationRepository userKeywordMigrationRepository;
+    private final KeywordMigrationProperties keywordMigrationProperties;
+
+    // 사전 warm-up 전에 시작해도 resolve 가 없는 이름을 DB 에서 가져오므로 순서 무관
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Thread thread = new Thread(this::migrate, "user-keyword-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void migrate() {
+        long afterId = keywordMigrationProperties.getStartAfterId();
+        long read = 0;
+        long inserted = 0;
+        log.info("Starting user_keyword migration after id {}", afterId);
+
+        try {
+            List<LegacyRow> rows;
+            do {
+                rows = userKeywordMigrationRepository.findLegacyAfter(afterId, keywordMigrationProperties.getChunkSize());
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                Map<String, Integer> ids = keywordDictionary.resolve(rows.stream().map(LegacyRow::keyword).toList());
+
+                List<Long> userIds = new ArrayList<>(rows.size());
+                List<Integer> keywordIds = new ArrayList<>(rows.size());
+                for (LegacyRow row : rows) {
+                    Integer keywordId = (row.keyword() == null) ? null : ids.get(row.keyword().strip());
+                    if (keywordId != null) {
+                        userIds.add(row.userId());
+                        keywordIds.add(keywordId);
+                    }
+                }
+                inserted += userKeywordMigrationRepository.insertIgnore(userIds, keywordIds);
+                read += rows.size();
+                afterId = rows.get(rows.size() - 1).id();
+                log.info("Migrated user_keyword chunk up to legacy id {} (read {}, inserted {})", afterId, read, inserted);
+
+                Thread.sleep(keywordMigrationProperties.getPauseBetweenChunks().toMillis());
+            } while (rows.size() == keywordMigrationProperties.getChunkSize());
+
+            log.info("Finished user_keyword migration (read {}, inserted {})", read, inserted);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("user_keyword migration interrupted after legacy id {}", afterId);
+        } catch (Exception e) {
+            log.error("user_keyword migration failed after legacy id {}, resume with keyword.migration.start-after-id={}",
+                    afterId, afterId, e);
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.poppang.be.test.domain.keyword.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "keyword.migration")
+public class KeywordMigrationProperties {
+
+    // user_keyword_legacy -> user_keyword 이관 (sql/keyword_dictionary.sql 적용 후 한 인스턴스에서만 켬)
+    private boolean enabled = false;
+
+    private int chunkSize = 2_000;
+
+    // chunk 사이 대기 (운영 DB 부하 완화)
+    private Duration pauseBetweenChunks = Duration.ofMillis(50);
+
+    // 중단된 이관 재개용 (로그에 남은 마지막 legacy id)
+    private long startAfterId = 0L;
+
+}
@@ -0,0 +1,24 @@
+package com.poppang.be.test.domain.keyword.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 키워드 사전 (이름은 한 번만 저장, user_keyword 는 int id 로 참조)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "keyword")
+public class Keyword {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // 이름 비교는 대소문자 / 악센트 구분 (sql/keyword_dictionary.sql 과 같은 collation)
+    // ddl-auto 로 만든 스키마가 기본 _ci collation 이면 대소문자만 다른 이름이 INSERT IGNORE 로 무시되고 조회도 빗나감
+    @Column(name = "name", nullable = false, unique = true, columnDefinition = "varchar(100) collate utf8mb4_bin")
+    private String name;
+
+}
@@ -1,32 +1,48 @@
 package com.poppang.be.test.domain.keyword.entity;
 
-import com.poppang.be.test.domain.users.entity.Users;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
+// 유저 - 키워드 (users_id, keyword_id) 두 컬럼만 두는 좁은 테이블
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_keyword")
+@IdClass(UserKeyword.Pk.class)
+@Table(
+        name = "user_keyword",
+        indexes = @Index(name = "idx_user_keyword_keyword", columnList = "keyword_id")
+)
 public class UserKeyword {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @Column(name = "users_id", nullable = false)
+    private Long userId;
+
+    @Id
+    @Column(name = "keyword_id", nullable = false)
+    private Integer keywordId;
+
+    public UserKeyword(Long userId,
+                       Integer keywordId) {
+        this.userId = userId;
+        this.keywordId = keywordId;
+    }
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "users_id", nullable = false)
-    private Users user;
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pk implements Serializable {
 
-    @Column(name = "keyword", nullable = false, length = 100)
-    private String keyword;
+        private Long userId;
+        private Integer keywordId;
 
-    public UserKeyword(Users user,
-                       String keyword) {
-        this.user = user;
-        this.keyword = keyword;
     }
 
 }
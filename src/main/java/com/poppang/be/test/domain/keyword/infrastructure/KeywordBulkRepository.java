@@ -0,0 +1,50 @@
+package com.poppang.be.test.domain.keyword.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+키워드 사전 일괄 등록 / 조회
+- 등록은 INSERT IGNORE (다른 인스턴스가 같은 이름을 먼저 넣었어도 실패하지 않음)
+- 조회는 IN 절 한 번
+ */
+@Repository
+@RequiredArgsConstructor
+public class KeywordBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertIgnore(List<String> names) {
+        for (int from = 0; from < names.size(); from += CHUNK_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + CHUNK_SIZE, names.size()));
+
+            String sql = "INSERT IGNORE INTO keyword (name) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?)"));
+            jdbcTemplate.update(sql, chunk.toArray());
+        }
+    }
+
+    // name -> id
+    public Map<String, Integer> findIds(List<String> names) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int from = 0; from < names.size(); from += CHUNK_SIZE) {
+            List<String> chunk = names.subList(from, Math.min(from + CHUNK_SIZE, names.size()));
+
+            String sql = "SELECT id, name FROM keyword WHERE name IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                ids.put(rs.getString("name"), rs.getInt("id"));
+            }, chunk.toArray());
+        }
+        return ids;
+    }
+
+}
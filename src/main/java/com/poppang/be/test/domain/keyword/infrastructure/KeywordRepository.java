@@ -0,0 +1,9 @@
+package com.poppang.be.test.domain.keyword.infrastructure;
+
+import com.poppang.be.test.domain.keyword.entity.Keyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface KeywordRepository extends JpaRepository<Keyword, Integer> {
+}
@@ -0,0 +1,39 @@
+package com.poppang.be.test.domain.keyword.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+user_keyword 일괄 저장
+- JPA saveAll 은 행마다 (복합키라 존재 확인 SELECT 후) INSERT 가 나가므로, multi-row INSERT 한 번으로 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserKeywordBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long userId, List<Integer> keywordIds) {
+        for (int from = 0; from < keywordIds.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = keywordIds.subList(from, Math.min(from + CHUNK_SIZE, keywordIds.size()));
+
+            String sql = "INSERT INTO user_keyword (users_id, keyword_id) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)"));
+
+            List<Object> params = new ArrayList<>(chunk.size() * 2);
+            for (Integer keywordId : chunk) {
+                params.add(userId);
+                params.add(keywordId);
+            }
+            jdbcTemplate.update(sql, params.toArray());
+        }
+    }
+
+}
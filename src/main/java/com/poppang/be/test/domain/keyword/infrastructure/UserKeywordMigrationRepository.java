@@ -0,0 +1,47 @@
+package com.poppang.be.test.domain.keyword.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+문자열 키워드(user_keyword_legacy) -> (users_id, keyword_id) 이관용 쿼리
+- 읽기는 id 기준 keyset 페이징, 쓰기는 INSERT IGNORE (재실행해도 중복 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserKeywordMigrationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<LegacyRow> findLegacyAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, users_id, keyword FROM user_keyword_legacy WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new LegacyRow(rs.getLong("id"), rs.getLong("users_id"), rs.getString("keyword")),
+                afterId, limit
+        );
+    }
+
+    public int insertIgnore(List<Long> userIds, List<Integer> keywordIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        String sql = "INSERT IGNORE INTO user_keyword (users_id, keyword_id) VALUES "
+                + String.join(", ", Collections.nCopies(userIds.size(), "(?, ?)"));
+
+        List<Object> params = new ArrayList<>(userIds.size() * 2);
+        for (int i = 0; i < userIds.size(); i++) {
+            params.add(userIds.get(i));
+            params.add(keywordIds.get(i));
+        }
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    public record LegacyRow(long id, long userId, String keyword) {
+    }
+
+}
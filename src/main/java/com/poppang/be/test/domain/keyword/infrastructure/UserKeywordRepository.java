@@ -1,8 +1,9 @@
 package com.poppang.be.test.domain.keyword.infrastructure;
 
+import com.poppang.be.test.domain.keyword.entity.UserKeyword;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserKeywordRepository extends JpaRepository<com.poppang.be.test.domain.keyword.entity.UserKeyword, Long> {
+public interface UserKeywordRepository extends JpaRepository<UserKeyword, UserKeyword.Pk> {
 }
@@ -0,0 +1,353 @@
+package com.poppang.be.test.domain.push.application;
+
+import com.poppang.be.test.domain.audience.application.AudienceIndex;
+import com.poppang.be.test.domain.audience.application.AudienceQuery;
+import com.poppang.be.test.domain.audience.infrastructure.AudienceSourceRepository.TargetRow;
+import com.poppang.be.test.domain.push.config.PushProperties;
+import com.poppang.be.test.domain.push.dto.PushMessage;
+import com.poppang.be.test.domain.push.dto.response.PushSendResponseDto;
+import com.poppang.be.test.domain.push.infrastructure.PushRecipientRepository;
+import com.poppang.be.test.domain.push.infrastructure.PushTransport;
+import com.poppang.be.test.domain.push.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+푸시 fan-out
+- 수신자는 Iterator 로 하나씩 읽어서(keyset 페이징 / 타게팅 인덱스) push.batch-size 개씩 멀티캐스트 배치로 묶음
+- 배치는 고정 크기 워커 풀에서 전송, 대기 배치 수는 worker-threads + queue-capacity 로 제한 (넘치면 수신자 읽기를 멈춤)
+- 전송 속도는 인스턴스 전체가 공유하는 token bucket 으로 제한 (push.messages-per-second)
+- 일시 오류 토큰은 지수 backoff + jitter 로 max-attempts 까지 재시도, 무효 토큰은 prune-batch-size 씩 모아서 정리
+  (배치는 수신자 행 그대로 들고 있어서 정리할 때 users PK 로 찾아감)
+- 전송 구현(PushTransport 빈)이 없으면 발송하지 않음 (stub 은 push.transport=stub 일 때만 등록)
+ */
+@Slf4j
+@Service
+public class PushFanoutService {
+
+    private final PushProperties pushProperties;
+    private final PushTransport pushTransport;
+    private final PushTokenPruner pushTokenPruner;
+    private final PushRecipientRepository pushRecipientRepository;
+    private final AudienceIndex audienceIndex;
+
+    private final ThreadPoolExecutor workers;
+    private final Semaphore inflightBatches;
+    private final TokenBucket rateLimiter;
+
+    private final Counter sentCounter;
+    private final Counter invalidCounter;
+    private final Counter failedCounter;
+    private final Counter retriedCounter;
+
+    public PushFanoutService(PushProperties pushProperties,
+                             @Nullable PushTransport pushTransport,
+                             PushTokenPruner pushTokenPruner,
+                             PushRecipientRepository pushRecipientRepository,
+                             AudienceIndex audienceIndex,
+                             MeterRegistry meterRegistry) {
+        this.pushProperties = pushProperties;
+        this.pushTransport = pushTransport;
+        this.pushTokenPruner = pushTokenPruner;
+        this.pushRecipientRepository = pushRecipientRepository;
+        this.audienceIndex = audienceIndex;
+        if (pushTransport == null) {
+            log.warn("No PushTransport is configured, push sending is disabled");
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                pushProperties.getWorkerThreads(),
+                pushProperties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "push-fanout-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.inflightBatches = new Semaphore(pushProperties.getWorkerThreads() + pushProperties.getQueueCapacity());
+        this.rateLimiter = new TokenBucket(
+                pushProperties.getMessagesPerSecond(),
+                Math.max(pushProperties.getBurst(), pushProperties.getBatchSize())
+        );
+
+        this.sentCounter = messages(meterRegistry, "sent");
+        this.invalidCounter = messages(meterRegistry, "invalid");
+        this.failedCounter = messages(meterRegistry, "failed");
+        this.retriedCounter = Counter.builder("push.fanout.retries").register(meterRegistry);
+    }
+
+    // 전송 구현이 등록되어 있는지 (없으면 fanOut 은 IllegalStateException)
+    public boolean isAvailable() {
+        return pushTransport != null;
+    }
+
+    // 알림 동의한 전체 유저 (DB keyset 페이징)
+    public PushSendResponseDto sendToAllAlerted(PushMessage message) {
+        return fanOut(message, alertedRecipients());
+    }
+
+    // 관심 키워드 중 하나 이상 + 알림 동의 + 미탈퇴 (타게팅 인덱스)
+    public PushSendResponseDto sendToKeywords(PushMessage message, Collection<Integer> keywordIds) {
+        return sendToAudience(message, AudienceQuery.pushCampaign(keywordIds));
+    }
+
+    public PushSendResponseDto sendToAudience(PushMessage message, AudienceQuery query) {
+        return fanOut(message, audienceIndex.targets(query).iterator());
+    }
+
+    /**
+     * 수신자를 배치로 묶어 전송하고 모든 배치가 끝날 때까지 대기
+     * @param recipients 수신자 (소비하는 만큼만 읽음)
+     */
+    public PushSendResponseDto fanOut(PushMessage message, Iterator<TargetRow> recipients) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("No PushTransport is configured");
+        }
+        long startedAt = System.nanoTime();
+        Campaign campaign = new Campaign(message);
+        int batchSize = pushProperties.getBatchSize();
+
+        try {
+            List<TargetRow> batch = new ArrayList<>(batchSize);
+            while (recipients.hasNext()) {
+                batch.add(recipients.next());
+                campaign.recipients.increment();
+                if (batch.size() == batchSize) {
+                    submit(campaign, batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(campaign, batch);
+            }
+        } finally {
+            // 중간에 실패해도 이미 넘긴 배치는 끝까지 기다림
+            campaign.phaser.arriveAndAwaitAdvance();
+        }
+        campaign.flushPrune(true);
+
+        return PushSendResponseDto.builder()
+                .recipients(campaign.recipients.sum())
+                .batches(campaign.batches.sum())
+                .sent(campaign.sent.sum())
+                .invalid(campaign.invalid.sum())
+                .pruned(campaign.pruned.sum())
+                .failed(campaign.failed.sum())
+                .retried(campaign.retried.sum())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private void submit(Campaign campaign, List<TargetRow> batch) {
+        try {
+            inflightBatches.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing push batch", e);
+        }
+
+        campaign.batches.increment();
+        campaign.phaser.register();
+        try {
+            workers.execute(() -> {
+                try {
+                    sendWithRetry(campaign, batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail(campaign, batch.size());
+                } catch (RuntimeException e) {
+                    log.warn("Push batch of {} tokens failed", batch.size(), e);
+                    fail(campaign, batch.size());
+                } finally {
+                    inflightBatches.release();
+                    campaign.phaser.arriveAndDeregister();
+                }
+            });
+        } catch (RuntimeException e) {
+            inflightBatches.release();
+            campaign.phaser.arriveAndDeregister();
+            throw e;
+        }
+    }
+
+    private void sendWithRetry(Campaign campaign, List<TargetRow> batch) throws InterruptedException {
+        List<String> remaining = batch.stream().map(TargetRow::fcmToken).toList();
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire(remaining.size());
+
+            PushTransport.Result result;
+            try {
+                result = pushTransport.send(campaign.message, remaining);
+            } catch (RuntimeException e) {
+                // 배치 전체 실패 (네트워크 등) → 배치 통째로 재시도
+                if (attempt >= pushProperties.getMaxAttempts()) {
+                    log.warn("Push batch of {} tokens failed after {} attempts", remaining.size(), attempt, e);
+                    fail(campaign, remaining.size());
+                    return;
+                }
+                retry(campaign, remaining.size(), attempt);
+                continue;
+            }
+
+            campaign.sent.add(result.succeeded());
+            sentCounter.increment(result.succeeded());
+            if (!result.invalidTokens().isEmpty()) {
+                campaign.invalid.add(result.invalidTokens().size());
+                invalidCounter.increment(result.invalidTokens().size());
+                campaign.queuePrune(recipientsOf(batch, result.invalidTokens()));
+            }
+
+            remaining = result.retryableTokens();
+            if (remaining.isEmpty()) {
+                return;
+            }
+            if (attempt >= pushProperties.getMaxAttempts()) {
+                fail(campaign, remaining.size());
+                return;
+            }
+            retry(campaign, remaining.size(), attempt);
+        }
+    }
+
+    private void retry(Campaign campaign, int tokens, int attempt) throws InterruptedException {
+        campaign.retried.add(tokens);
+        retriedCounter.increment(tokens);
+
+        // 지수 backoff (상한 max-backoff) 의 절반 ~ 전체 구간에서 무작위 대기
+        long initial = pushProperties.getInitialBackoff().toMillis();
+        long backoff = Math.min(pushProperties.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 20));
+        TimeUnit.MILLISECONDS.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+    }
+
+    // 무효 토큰을 가진 배치 내 수신자 (같은 토큰을 여러 유저가 가진 경우 모두)
+    private static List<TargetRow> recipientsOf(List<TargetRow> batch, List<String> tokens) {
+        Set<String> invalid = new HashSet<>(tokens);
+        return batch.stream()
+                .filter(recipient -> invalid.contains(recipient.fcmToken()))
+                .toList();
+    }
+
+    private void fail(Campaign campaign, int tokens) {
+        campaign.failed.add(tokens);
+        failedCounter.increment(tokens);
+    }
+
+    private Iterator<TargetRow> alertedRecipients() {
+        int pageSize = pushProperties.getRecipientPageSize();
+
+        return new Iterator<>() {
+            private Iterator<TargetRow> page = List.<TargetRow>of().iterator();
+            private long afterId = 0L;
+            private boolean lastPage = false;
+
+            @Override
+            public boolean hasNext() {
+                if (!page.hasNext() && !lastPage) {
+                    List<TargetRow> rows = pushRecipientRepository.findRecipientsAfter(afterId, pageSize);
+                    lastPage = rows.size() < pageSize;
+                    if (!rows.isEmpty()) {
+                        afterId = rows.get(rows.size() - 1).userId();
+                    }
+                    page = rows.iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public TargetRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+    }
+
+    private static Counter messages(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("push.fanout.messages")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // 캠페인 1회 발송 상태 (배치 워커들이 공유)
+    private final class Campaign {
+
+        private final PushMessage message;
+        // 발송 스레드 자신을 party 로 등록, 배치마다 register / arriveAndDeregister
+        private final Phaser phaser = new Phaser(1);
+
+        private final LongAdder recipients = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder invalid = new LongAdder();
+        private final LongAdder pruned = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+
+        private final ConcurrentLinkedQueue<TargetRow> pendingPrune = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingPruneSize = new AtomicInteger();
+
+        private Campaign(PushMessage message) {
+            this.message = message;
+        }
+
+        private void queuePrune(List<TargetRow> recipients) {
+            pendingPrune.addAll(recipients);
+            if (pendingPruneSize.addAndGet(recipients.size()) >= pushProperties.getPruneBatchSize()) {
+                flushPrune(false);
+            }
+        }
+
+        // all=false 면 한 배치만, true 면 남은 것 전부
+        private void flushPrune(boolean all) {
+            do {
+                List<TargetRow> recipients = new ArrayList<>(pushProperties.getPruneBatchSize());
+                TargetRow recipient;
+                while (recipients.size() < pushProperties.getPruneBatchSize() && (recipient = pendingPrune.poll()) != null) {
+                    recipients.add(recipient);
+                }
+                if (recipients.isEmpty()) {
+                    return;
+                }
+                pendingPruneSize.addAndGet(-recipients.size());
+
+                try {
+                    pruned.add(pushTokenPruner.prune(recipients));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to prune {} invalid push tokens", recipients.size(), e);
+                }
+            } while (all);
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.poppang.be.test.domain.push.application;
+
+import com.poppang.be.test.domain.audience.infrastructure.AudienceSourceRepository.TargetRow;
+import com.poppang.be.test.domain.push.infrastructure.PushRecipientRepository;
+import com.poppang.be.test.domain.push.infrastructure.PushRecipientRepository.TokenOwner;
+import com.poppang.be.test.domain.users.entity.UsersChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/*
+provider 가 무효라고 알려준 FCM 토큰 정리
+- 발송 대상 행(id + 토큰) 단위로 정리 → users PK 로만 접근
+- JdbcTemplate 으로 바꾸므로 UsersEntityListener 를 거치지 않음 → UsersChangedEvent 를 직접 발행 (로그인 프로필 캐시 무효화)
+ */
+@Component
+@RequiredArgsConstructor
+public class PushTokenPruner {
+
+    private final PushRecipientRepository pushRecipientRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 정리된 행 수 반환
+    @Transactional
+    public int prune(List<TargetRow> recipients) {
+        List<TokenOwner> owners = pushRecipientRepository.findOwners(recipients);
+        int cleared = pushRecipientRepository.clearTokens(recipients);
+
+        for (TokenOwner owner : owners) {
+            if (owner.uid() != null) {
+                eventPublisher.publishEvent(new UsersChangedEvent(owner.id(), owner.uid(), owner.alerted(), owner.deleted()));
+            }
+        }
+        return cleared;
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.poppang.be.test.domain.push.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "push")
+public class PushProperties {
+
+    // 멀티캐스트 1회에 담는 토큰 수 (FCM 상한 500)
+    private int batchSize = 500;
+
+    // 발송 워커 수 / 대기 가능한 배치 수 (가득 차면 수신자 읽기를 멈춤)
+    private int workerThreads = 8;
+    private int queueCapacity = 32;
+
+    // 초당 발송 메시지 수 (token bucket), burst 는 한 번에 몰아 보낼 수 있는 최대 메시지 수
+    private double messagesPerSecond = 2_000;
+    private int burst = 1_000;
+
+    // 일시 오류 재시도 (지수 backoff + jitter)
+    private int maxAttempts = 3;
+    private Duration initialBackoff = Duration.ofMillis(200);
+    private Duration maxBackoff = Duration.ofSeconds(5);
+
+    // 수신자 keyset 페이지 크기
+    private int recipientPageSize = 5_000;
+
+    // 무효 토큰을 모아서 정리하는 단위
+    private int pruneBatchSize = 500;
+
+    private Stub stub = new Stub();
+
+    @Getter
+    @Setter
+    public static class Stub {
+
+        // 배치 1회 전송 지연 (provider 왕복 흉내)
+        private Duration latency = Duration.ZERO;
+
+        // "invalid" 로 시작하는 토큰은 무효, 나머지는 이 비율로 일시 오류
+        private double transientFailureRate = 0.0;
+
+    }
+
+}
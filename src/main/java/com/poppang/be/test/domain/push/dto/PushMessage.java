@@ -0,0 +1,12 @@
+package com.poppang.be.test.domain.push.dto;
+
+import java.util.Map;
+
+// 발송할 알림 내용 (수신자와 무관하게 한 캠페인에 하나)
+public record PushMessage(String title, String body, Map<String, String> data) {
+
+    public PushMessage {
+        data = (data == null) ? Map.of() : Map.copyOf(data);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.poppang.be.test.domain.push.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class PushSendResponseDto {
+
+    private long recipients;
+    private long batches;
+    private long sent;
+    private long invalid;
+    private long pruned;
+    private long failed;
+    private long retried;
+    private long elapsedMillis;
+
+    @Builder
+    public PushSendResponseDto(long recipients,
+                               long batches,
+                               long sent,
+                               long invalid,
+                               long pruned,
+                               long failed,
+                               long retried,
+                               long elapsedMillis) {
+        this.recipients = recipients;
+        this.batches = batches;
+        this.sent = sent;
+        this.invalid = invalid;
+        this.pruned = pruned;
+        this.failed = failed;
+        this.retried = retried;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.poppang.be.test.domain.push.infrastructure;
+
+import com.poppang.be.test.domain.audience.infrastructure.AudienceSourceRepository.TargetRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/*
+푸시 수신자 조회 / 무효 토큰 정리
+- 전체 발송 대상은 id 기준 keyset 페이징 (알림 동의 + 미탈퇴 + 토큰 보유)
+- 무효 토큰은 발송 대상 행의 PK(id) 로 찾아서 NULL 처리 (fcm_token 컬럼에는 인덱스가 없음)
+  그 사이 토큰이 새로 등록된 행은 fcm_token 조건으로 걸러서 건드리지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class PushRecipientRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<TargetRow> findRecipientsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, uid, fcm_token FROM users "
+                        + "WHERE id > ? AND is_alerted = true AND is_deleted = false "
+                        + "AND fcm_token IS NOT NULL AND fcm_token <> '' "
+                        + "ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new TargetRow(rs.getLong("id"), rs.getString("uid"), rs.getString("fcm_token")),
+                afterId, limit
+        );
+    }
+
+    // 정리 대상 토큰을 가진 유저 (캐시 무효화 / 인덱스 갱신 이벤트용)
+    public List<TokenOwner> findOwners(List<TargetRow> recipients) {
+        if (recipients.isEmpty()) {
+            return List.of();
+        }
+        PrimaryKeyFilter filter = PrimaryKeyFilter.of(recipients);
+        return jdbcTemplate.query(
+                "SELECT id, uid, is_alerted, is_deleted FROM users WHERE " + filter.sql(),
+                (rs, rowNum) -> new TokenOwner(rs.getLong("id"), rs.getString("uid"), rs.getBoolean("is_alerted"), rs.getBoolean("is_deleted")),
+                filter.args()
+        );
+    }
+
+    public int clearTokens(List<TargetRow> recipients) {
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+        PrimaryKeyFilter filter = PrimaryKeyFilter.of(recipients);
+        return jdbcTemplate.update(
+                "UPDATE users SET fcm_token = NULL, updated_at = CURRENT_TIMESTAMP WHERE " + filter.sql(),
+                filter.args()
+        );
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // id IN (...) 로 PK 범위만 읽고, 그중 토큰이 아직 무효 토큰 중 하나인 행만 대상
+    private record PrimaryKeyFilter(Set<Long> ids, Set<String> tokens) {
+
+        private static PrimaryKeyFilter of(List<TargetRow> recipients) {
+            Set<Long> ids = new LinkedHashSet<>();
+            Set<String> tokens = new LinkedHashSet<>();
+            for (TargetRow recipient : recipients) {
+                ids.add(recipient.userId());
+                tokens.add(recipient.fcmToken());
+            }
+            return new PrimaryKeyFilter(ids, tokens);
+        }
+
+        private String sql() {
+            return "id IN (" + placeholders(ids.size()) + ") AND fcm_token IN (" + placeholders(tokens.size()) + ")";
+        }
+
+        private Object[] args() {
+            List<Object> args = new ArrayList<>(ids.size() + tokens.size());
+            args.addAll(ids);
+            args.addAll(tokens);
+            return args.toArray();
+        }
+
+    }
+
+    public record TokenOwner(long id, String uid, boolean alerted, boolean deleted) {
+    }
+
+}
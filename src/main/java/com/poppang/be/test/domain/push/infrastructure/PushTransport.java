@@ -0,0 +1,19 @@
+package com.poppang.be.test.domain.push.infrastructure;
+
+import com.poppang.be.test.domain.push.dto.PushMessage;
+
+import java.util.List;
+
+/*
+푸시 provider 전송 (멀티캐스트 1회 = 토큰 최대 push.batch-size 개)
+- 토큰별 결과를 성공 / 무효(재발급 필요, 정리 대상) / 일시 오류(재시도 대상) 로 나눠서 반환
+- 배치 전체가 실패한 경우(네트워크 등)는 예외로 던짐 → 호출하는 쪽에서 배치 통째로 재시도
+ */
+public interface PushTransport {
+
+    Result send(PushMessage message, List<String> tokens);
+
+    record Result(int succeeded, List<String> invalidTokens, List<String> retryableTokens) {
+    }
+
+}
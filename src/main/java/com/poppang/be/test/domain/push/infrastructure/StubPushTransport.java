@@ -0,0 +1,57 @@
+package com.poppang.be.test.domain.push.infrastructure;
+
+import com.poppang.be.test.domain.push.config.PushProperties;
+import com.poppang.be.test.domain.push.dto.PushMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+로컬 / 벤치마크용 전송 (실제 provider 호출 없음)
+- push.transport=stub 으로 명시했을 때만 등록 (운영에서 발송이 조용히 버려지지 않도록 기본값 아님)
+- push.stub.latency 만큼 대기 후 응답
+- "invalid" 로 시작하는 토큰은 무효, 나머지는 push.stub.transient-failure-rate 비율로 일시 오류
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "push", name = "transport", havingValue = "stub")
+public class StubPushTransport implements PushTransport {
+
+    private final PushProperties pushProperties;
+
+    @Override
+    public Result send(PushMessage message, List<String> tokens) {
+        long latencyNanos = pushProperties.getStub().getLatency().toNanos();
+        if (latencyNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latencyNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while sending push", e);
+            }
+        }
+
+        double failureRate = pushProperties.getStub().getTransientFailureRate();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        int succeeded = 0;
+        List<String> invalid = new ArrayList<>();
+        List<String> retryable = new ArrayList<>();
+        for (String token : tokens) {
+            if (token.startsWith("invalid")) {
+                invalid.add(token);
+            } else if (failureRate > 0 && random.nextDouble() < failureRate) {
+                retryable.add(token);
+            } else {
+                succeeded++;
+            }
+        }
+        return new Result(succeeded, invalid, retryable);
+    }
+
+}
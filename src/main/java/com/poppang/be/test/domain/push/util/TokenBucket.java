@@ -0,0 +1,50 @@
+package com.poppang.be.test.domain.push.util;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+발송 속도 제한 (token bucket)
+- 초당 permitsPerSecond 개씩 채워지고 최대 capacity 개까지 쌓임
+- acquire 는 필요한 만큼 쌓일 때까지 대기 (워커 여러 개가 공유)
+ */
+public class TokenBucket {
+
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double available;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, double capacity) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond and capacity must be positive");
+        }
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.available = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // capacity 보다 큰 요청은 capacity 만큼으로 취급 (영원히 대기하지 않도록)
+    public void acquire(int permits) throws InterruptedException {
+        double needed = Math.min(permits, capacity);
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill(System.nanoTime());
+                if (available >= needed) {
+                    available -= needed;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((needed - available) / permitsPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void refill(long now) {
+        available = Math.min(capacity, available + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+
+}
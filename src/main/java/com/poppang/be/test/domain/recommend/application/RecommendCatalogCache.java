@@ -0,0 +1,193 @@
+package com.poppang.be.test.domain.recommend.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppang.be.test.domain.recommend.config.RecommendCatalogProperties;
+import com.poppang.be.test.domain.recommend.dto.response.RecommendResponseDto;
+import com.poppang.be.test.domain.recommend.entity.Recommend;
+import com.poppang.be.test.domain.recommend.infrastructure.RecommendRepository;
+import com.poppang.be.test.domain.recommend.util.CatalogPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/*
+Recommend 카탈로그 메모리 캐시
+- 작고 거의 바뀌지 않는 테이블이라 id 정렬 배열(long[]) + 이름 배열로 통째로 들고 있음
+- 조회는 binary search (박싱 없음), 갱신은 새 스냅샷을 만들어 volatile 참조만 교체
+- 기동 시 warm-up, 이후 recommend.catalog-reload-interval 마다 재적재
+- 카탈로그 조회 API 응답(JSON + gzip + ETag)도 스냅샷에 같이 만들어 둠, 재적재 결과가 같으면 스냅샷을 그대로 유지
+- 검증 중 없는 id 를 만나면 거절 전에 한 번 재적재 (recommend.catalog.miss-reload-interval 에 한 번만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendCatalogCache {
+
+    private final RecommendRepository recommendRepository;
+    private final ObjectMapper objectMapper;
+    private final RecommendCatalogProperties recommendCatalogProperties;
+
+    private volatile Snapshot snapshot;
+
+    // 미스로 인한 마지막 재적재 시각 (this 로 보호)
+    private boolean missReloaded;
+    private long lastMissReloadNanos;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    @Scheduled(
+            initialDelayString = "${recommend.catalog-reload-interval:PT10M}",
+            fixedDelayString = "${recommend.catalog-reload-interval:PT10M}"
+    )
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Failed to reload recommend catalog, keep serving {} cached entries", size(), e);
+        }
+    }
+
+    // 전체 재적재 후 스냅샷 교체 (내용이 바뀐 경우만), 적재된 개수 반환
+    public synchronized int reload() {
+        List<Recommend> recommends = recommendRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+
+        long[] ids = new long[recommends.size()];
+        String[] names = new String[recommends.size()];
+        List<RecommendResponseDto> catalog = new ArrayList<>(recommends.size());
+        for (int i = 0; i < recommends.size(); i++) {
+            ids[i] = recommends.get(i).getId();
+            names[i] = recommends.get(i).getRecommendName();
+            catalog.add(RecommendResponseDto.from(ids[i], names[i]));
+        }
+
+        byte[] json = serialize(catalog);
+        Snapshot current = snapshot;
+        if (current != null && current.payload().sameContent(json)) {
+            log.debug("Recommend catalog unchanged (version {})", current.payload().version());
+            return ids.length;
+        }
+
+        snapshot = new Snapshot(ids, names, CatalogPayload.of(json));
+        log.info("Loaded {} recommend catalog entries (version {})", ids.length, snapshot.payload().version());
+        return ids.length;
+    }
+
+    // 카탈로그 조회 API 응답 (직렬화 / 압축 완료된 바이트)
+    public CatalogPayload getPayload() {
+        return current().payload();
+    }
+
+    public boolean contains(long id) {
+        return current().indexOf(id) >= 0;
+    }
+
+    public String getName(long id) {
+        Snapshot current = current();
+        int index = current.indexOf(id);
+        return index >= 0 ? current.names()[index] : null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.ids().length;
+    }
+
+    /**
+     * 추천 id 검증 (DB 조회 없음)
+     * @param recommendIds 클라이언트가 보낸 추천 id 목록
+     * @return null 제거 + 중복 제거된 id 목록
+     * @throws UnknownRecommendException 재적재 후에도 카탈로그에 없는 id 가 섞여 있는 경우 (400)
+     */
+    public List<Long> resolveIds(Collection<Long> recommendIds) {
+        Snapshot current = current();
+
+        List<Long> ids = recommendIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        List<Long> unknown = unknownIds(current, ids);
+        if (!unknown.isEmpty() && reloadOnMiss(current)) {
+            unknown = unknownIds(snapshot, ids);
+        }
+        if (!unknown.isEmpty()) {
+            throw new UnknownRecommendException(unknown);
+        }
+        return ids;
+    }
+
+    // 다음 정기 재적재 전에 추가된 항목일 수 있으므로 한 번 재적재, 스냅샷이 바뀌었으면 true
+    private synchronized boolean reloadOnMiss(Snapshot seen) {
+        if (snapshot != seen) {
+            // 기다리는 동안 다른 요청 / 스케줄러가 이미 재적재
+            return true;
+        }
+
+        long now = System.nanoTime();
+        if (missReloaded && now - lastMissReloadNanos < recommendCatalogProperties.getMissReloadInterval().toNanos()) {
+            return false;
+        }
+        missReloaded = true;
+        lastMissReloadNanos = now;
+
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload recommend catalog on miss", e);
+            return false;
+        }
+        return snapshot != seen;
+    }
+
+    private static List<Long> unknownIds(Snapshot snapshot, List<Long> ids) {
+        return ids.stream()
+                .filter(id -> snapshot.indexOf(id) < 0)
+                .toList();
+    }
+
+    // 기동 직후 warm-up 전에 들어온 요청은 여기서 한 번 적재
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private byte[] serialize(List<RecommendResponseDto> catalog) {
+        try {
+            return objectMapper.writeValueAsBytes(catalog);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize recommend catalog", e);
+        }
+    }
+
+    private record Snapshot(long[] ids, String[] names, CatalogPayload payload) {
+
+        int indexOf(long id) {
+            int index = Arrays.binarySearch(ids, id);
+            return index >= 0 ? index : -1;
+        }
+
+    }
+
+}
@@ -0,0 +1,178 @@
+package com.poppang.be.test.domain.recommend.application;
+
+import com.poppang.be.test.domain.recommend.infrastructure.UserRecommendStreamRepository;
+import com.poppang.be.test.domain.recommend.util.CoOccurrenceMatrix;
+import com.poppang.be.test.domain.recommend.util.CoOccurrenceMatrix.Related;
+import com.poppang.be.test.domain.users.entity.SignupCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+"이 항목을 고른 유저들이 함께 고른 항목" (추천 항목 동시 선택 행렬)
+- 기동 시 user_recommend 를 users_id 순으로 한 번 스트리밍하면서 유저별 묶음을 바로 행렬에 반영
+- 이후 가입 이벤트(커밋 이후)로 증분 갱신, 다른 인스턴스의 가입은 recommend.co-occurrence-rebuild-interval 마다 재구축으로 반영
+- 조회는 read lock, 갱신은 write lock
+ */
+@Slf4j
+@Component
+public class RecommendCoOccurrence {
+
+    // id 를 그대로 index 로 쓰므로 행렬 크기 상한 (1024^2 * 4B = 4MB)
+    private static final int INITIAL_DIMENSION = 64;
+    private static final int MAX_DIMENSION = 1_024;
+
+    private final UserRecommendStreamRepository userRecommendStreamRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // lock 으로 보호
+    private CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(INITIAL_DIMENSION, MAX_DIMENSION);
+    private boolean rebuilding = false;
+    private final List<SignupCompletedEvent> pendingDuringRebuild = new ArrayList<>();
+
+    public RecommendCoOccurrence(UserRecommendStreamRepository userRecommendStreamRepository) {
+        this.userRecommendStreamRepository = userRecommendStreamRepository;
+    }
+
+    // 구축에 실패해도 기동은 계속 (빈 행렬로 응답하다가 다음 주기 재구축에서 반영)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to build recommend co-occurrence on startup, serving empty results until the next rebuild", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${recommend.co-occurrence-rebuild-interval:PT1H}",
+            fixedDelayString = "${recommend.co-occurrence-rebuild-interval:PT1H}"
+    )
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild recommend co-occurrence, keep serving the current one", e);
+        }
+    }
+
+    /**
+     * 전체 재구축 (스트리밍 1회) 후 교체
+     * 스트리밍 쿼리는 시작 시점 스냅샷을 읽으므로, 구축 중에 커밋된 가입은 스트림에서 본 마지막 users_id 보다 큰 것만 다시 반영
+     * (id 가 작은데 늦게 커밋된 가입은 다음 재구축까지 빠질 수 있음, 중복 집계는 없음)
+     */
+    public synchronized void rebuild() {
+        writeLocked(() -> {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        });
+
+        Rebuilt rebuilt;
+        try {
+            rebuilt = load();
+        } catch (RuntimeException e) {
+            writeLocked(() -> {
+                rebuilding = false;
+                pendingDuringRebuild.clear();
+            });
+            throw e;
+        }
+
+        writeLocked(() -> {
+            for (SignupCompletedEvent event : pendingDuringRebuild) {
+                if (event.userId() > rebuilt.lastUserId()) {
+                    addBasket(rebuilt.matrix(), event.recommendIds());
+                }
+            }
+            pendingDuringRebuild.clear();
+            rebuilding = false;
+            matrix = rebuilt.matrix();
+        });
+        log.info("Rebuilt recommend co-occurrence: {} users, {} bytes",
+                rebuilt.matrix().baskets(), rebuilt.matrix().sizeInBytes());
+    }
+
+    // 가입 완료 (커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSignupCompleted(SignupCompletedEvent event) {
+        if (event.recommendIds().isEmpty()) {
+            return;
+        }
+        writeLocked(() -> {
+            addBasket(matrix, event.recommendIds());
+            if (rebuilding) {
+                pendingDuringRebuild.add(event);
+            }
+        });
+    }
+
+    // recommendIds 를 고른 유저들이 함께 고른 항목 상위 limit 개 (입력 항목은 제외, 행 합산)
+    public List<Related> related(Collection<Long> recommendIds, int limit) {
+        long[] ids = recommendIds.stream().mapToLong(Long::longValue).toArray();
+
+        lock.readLock().lock();
+        try {
+            return matrix.topRelated(ids, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Rebuilt load() {
+        CoOccurrenceMatrix loaded = new CoOccurrenceMatrix(INITIAL_DIMENSION, MAX_DIMENSION);
+
+        // 같은 유저의 행이 연속으로 오므로 users_id 가 바뀔 때마다 묶음 반영
+        long[][] basket = {new long[16]};
+        int[] size = {0};
+        long[] currentUserId = {0L};
+
+        userRecommendStreamRepository.streamOrderedByUser(rs -> {
+            long userId = rs.getLong("users_id");
+            if (userId != currentUserId[0]) {
+                loaded.addBasket(basket[0], size[0]);
+                size[0] = 0;
+                currentUserId[0] = userId;
+            }
+            if (size[0] == basket[0].length) {
+                basket[0] = Arrays.copyOf(basket[0], size[0] * 2);
+            }
+            basket[0][size[0]++] = rs.getLong("recommend_id");
+        });
+        loaded.addBasket(basket[0], size[0]);
+
+        return new Rebuilt(loaded, currentUserId[0]);
+    }
+
+    private void addBasket(CoOccurrenceMatrix target, List<Long> recommendIds) {
+        long[] ids = recommendIds.stream().mapToLong(Long::longValue).toArray();
+        try {
+            target.addBasket(ids, ids.length);
+        } catch (IllegalArgumentException e) {
+            log.warn("Skip recommend co-occurrence update {}: {}", Arrays.toString(ids), e.getMessage());
+        }
+    }
+
+    private void writeLocked(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record Rebuilt(CoOccurrenceMatrix matrix, long lastUserId) {
+    }
+
+}
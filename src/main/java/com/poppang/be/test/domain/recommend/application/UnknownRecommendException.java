@@ -0,0 +1,16 @@
+package com.poppang.be.test.domain.recommend.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.util.List;
+
+// 카탈로그에 없는 추천 id (클라이언트 입력 오류 → 400)
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnknownRecommendException extends IllegalArgumentException {
+
+    public UnknownRecommendException(List<Long> unknownIds) {
+        super("존재하지 않는 추천 항목입니다. " + unknownIds);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.poppang.be.test.domain.recommend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "recommend.catalog")
+public class RecommendCatalogProperties {
+
+    // 카탈로그 조회 응답 Cache-Control max-age (지난 뒤에는 ETag 로 재검증)
+    private Duration maxAge = Duration.ofDays(1);
+
+    // 카탈로그에 없는 id 가 들어왔을 때 재적재하는 최소 간격 (방금 추가된 항목 반영, 잘못된 id 반복 요청으로 DB 를 두드리지 않도록)
+    private Duration missReloadInterval = Duration.ofSeconds(30);
+
+}
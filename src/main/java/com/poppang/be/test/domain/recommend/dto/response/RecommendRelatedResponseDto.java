@@ -0,0 +1,41 @@
+package com.poppang.be.test.domain.recommend.dto.response;
+
+import com.poppang.be.test.domain.recommend.util.CoOccurrenceMatrix.Related;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RecommendRelatedResponseDto {
+
+    private Long recommendId;
+    private String recommendName;
+    // 함께 고른 유저 수
+    private int count;
+    // 이 항목을 고른 전체 유저 수
+    private int support;
+
+    @Builder
+    public RecommendRelatedResponseDto(Long recommendId,
+                                       String recommendName,
+                                       int count,
+                                       int support) {
+
+        this.recommendId = recommendId;
+        this.recommendName = recommendName;
+        this.count = count;
+        this.support = support;
+
+    }
+
+    public static RecommendRelatedResponseDto from(Related related, String recommendName) {
+        return RecommendRelatedResponseDto.builder()
+                .recommendId(related.recommendId())
+                .recommendName(recommendName)
+                .count(related.count())
+                .support(related.support())
+                .build();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.poppang.be.test.domain.recommend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RecommendResponseDto {
+
+    private Long recommendId;
+    private String recommendName;
+
+    @Builder
+    public RecommendResponseDto(Long recommendId,
+                                String recommendName) {
+
+        this.recommendId = recommendId;
+        this.recommendName = recommendName;
+
+    }
+
+    public static RecommendResponseDto from(long recommendId, String recommendName) {
+        return RecommendResponseDto.builder()
+                .recommendId(recommendId)
+                .recommendName(recommendName)
+                .build();
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.poppang.be.test.domain.recommend.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+user_recommend 일괄 저장
+- IDENTITY 전략이라 JPA saveAll 은 행마다 INSERT 가 나가므로, multi-row INSERT 한 번으로 저장
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserRecommendBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(Long userId, List<Long> recommendIds) {
+        for (int from = 0; from < recommendIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = recommendIds.subList(from, Math.min(from + CHUNK_SIZE, recommendIds.size()));
+
+            String sql = "INSERT INTO user_recommend (users_id, recommend_id) VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)"));
+
+            List<Object> params = new ArrayList<>(chunk.size() * 2);
+            for (Long recommendId : chunk) {
+                params.add(userId);
+                params.add(recommendId);
+            }
+            jdbcTemplate.update(sql, params.toArray());
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.poppang.be.test.domain.recommend.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/*
+user_recommend 전체 스트리밍 조회 (동시 선택 행렬 재구축용)
+- 쿼리 한 번으로 users_id 순으로 읽으면서 행마다 콜백 (결과를 목록으로 만들지 않음)
+- MySQL Connector/J 는 fetch size Integer.MIN_VALUE 일 때만 행 단위 스트리밍 (결과 전체를 메모리에 올리지 않음)
+- 다른 드라이버(H2 등)는 음수 fetch size 를 거부하므로 일반 fetch size 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserRecommendStreamRepository {
+
+    private static final int DEFAULT_FETCH_SIZE = 1_000;
+
+    private static final String SQL = "SELECT users_id, recommend_id FROM user_recommend ORDER BY users_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // (users_id, recommend_id) - users_id 순
+    public void streamOrderedByUser(RowCallbackHandler handler) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(isMySql(connection) ? Integer.MIN_VALUE : DEFAULT_FETCH_SIZE);
+                    return statement;
+                },
+                handler
+        );
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        return connection.getMetaData().getDriverName().toLowerCase(Locale.ROOT).contains("mysql");
+    }
+
+}
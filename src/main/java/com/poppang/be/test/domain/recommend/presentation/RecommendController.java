@@ -1,12 +1,114 @@
 package com.poppang.be.test.domain.recommend.presentation;
 
+import com.poppang.be.test.domain.recommend.application.RecommendCatalogCache;
+import com.poppang.be.test.domain.recommend.application.RecommendCoOccurrence;
+import com.poppang.be.test.domain.recommend.config.RecommendCatalogProperties;
+import com.poppang.be.test.domain.recommend.dto.response.RecommendRelatedResponseDto;
+import com.poppang.be.test.domain.recommend.util.CatalogPayload;
+import com.poppang.be.test.domain.recommend.util.CoOccurrenceMatrix.Related;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
-@RequestMapping("/api/v1/auth")
+@RequestMapping("/api/v1/recommend")
 @RequiredArgsConstructor
 public class RecommendController {
 
+    private static final int MAX_LIMIT = 50;
+
+    private final RecommendCatalogCache recommendCatalogCache;
+    private final RecommendCoOccurrence recommendCoOccurrence;
+    private final RecommendCatalogProperties recommendCatalogProperties;
+
+    /**
+     * 추천 카탈로그 (가입 화면)
+     * 미리 직렬화 / 압축해 둔 바이트를 그대로 내려주고, If-None-Match 가 현재 버전이면 304
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<byte[]> getCatalog(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogPayload payload = recommendCatalogCache.getPayload();
+        boolean gzipped = acceptsGzip(acceptEncoding);
+        CacheControl cacheControl = CacheControl.maxAge(recommendCatalogProperties.getMaxAge()).cachePublic();
+
+        if (payload.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(payload.etag(gzipped))
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(payload.etag(gzipped))
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzipped) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(payload.body(gzipped));
+    }
+
+    // 이 항목을 고른 유저들이 함께 고른 항목
+    @GetMapping("/{recommendId}/related")
+    public ResponseEntity<List<RecommendRelatedResponseDto>> getRelated(@PathVariable Long recommendId,
+                                                                        @RequestParam(defaultValue = "10") int limit) {
+        List<Long> recommendIds = recommendCatalogCache.resolveIds(List.of(recommendId));
+
+        return ResponseEntity.ok(toResponse(recommendCoOccurrence.related(recommendIds, clamp(limit))));
+    }
+
+    // 여러 항목을 고른 유저들이 함께 고른 항목 (입력 항목 제외)
+    @GetMapping("/related")
+    public ResponseEntity<List<RecommendRelatedResponseDto>> getRelatedToAll(@RequestParam List<Long> recommendIds,
+                                                                             @RequestParam(defaultValue = "10") int limit) {
+        List<Long> resolvedIds = recommendCatalogCache.resolveIds(recommendIds);
+
+        return ResponseEntity.ok(toResponse(recommendCoOccurrence.related(resolvedIds, clamp(limit))));
+    }
+
+    private List<RecommendRelatedResponseDto> toResponse(List<Related> related) {
+        return related.stream()
+                .map(item -> RecommendRelatedResponseDto.from(item, recommendCatalogCache.getName(item.recommendId())))
+                .toList();
+    }
+
+    // "gzip" 이 있고 q=0 으로 거부하지 않은 경우
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.matches("q=0(\\.0{0,3})?")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
 }
@@ -0,0 +1,88 @@
+package com.poppang.be.test.domain.recommend.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/*
+미리 직렬화 / 압축해 둔 카탈로그 응답
+- etag 는 JSON 바이트의 SHA-256 (내용이 같으면 인스턴스 / 재기동과 관계없이 같은 값)
+- gzip 표현은 바이트가 다르므로 strong ETag 도 "-gzip" 을 붙여 구분 (If-None-Match 는 둘 다 인정)
+ */
+public final class CatalogPayload {
+
+    private final byte[] json;
+    private final byte[] gzip;
+    private final String version;
+
+    private CatalogPayload(byte[] json, byte[] gzip, String version) {
+        this.json = json;
+        this.gzip = gzip;
+        this.version = version;
+    }
+
+    public static CatalogPayload of(byte[] json) {
+        return new CatalogPayload(json.clone(), gzip(json), sha256(json));
+    }
+
+    public byte[] body(boolean gzipped) {
+        return gzipped ? gzip : json;
+    }
+
+    public String etag(boolean gzipped) {
+        return gzipped ? "\"" + version + "-gzip\"" : "\"" + version + "\"";
+    }
+
+    public String version() {
+        return version;
+    }
+
+    // If-None-Match 헤더 (쉼표로 여러 개, W/ 접두어, * 허용) 가 현재 버전과 맞는지
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag(false)) || tag.equals(etag(true))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean sameContent(byte[] otherJson) {
+        return Arrays.equals(json, otherJson);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+}
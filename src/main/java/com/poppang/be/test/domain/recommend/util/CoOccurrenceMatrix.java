@@ -0,0 +1,163 @@
+package com.poppang.be.test.domain.recommend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+추천 항목 동시 선택(co-occurrence) 행렬
+- recommend id 를 그대로 index 로 쓰는 dense 행렬 (카탈로그가 작고 id 가 1 부터 촘촘하다는 전제)
+- pairCounts[a * dimension + b] = a 와 b 를 함께 고른 유저 수 (대칭), itemCounts[a] = a 를 고른 유저 수
+- 모르는 id 가 들어오면 maxDimension 까지 배열을 늘림
+- thread-safe 하지 않음 (호출하는 쪽에서 lock)
+ */
+public class CoOccurrenceMatrix {
+
+    private final int maxDimension;
+
+    private int dimension;
+    private int[] pairCounts;
+    private int[] itemCounts;
+    private long baskets;
+
+    public CoOccurrenceMatrix(int initialDimension, int maxDimension) {
+        if (initialDimension < 1 || initialDimension > maxDimension) {
+            throw new IllegalArgumentException("initialDimension must be in [1, " + maxDimension + "]: " + initialDimension);
+        }
+        this.maxDimension = maxDimension;
+        this.dimension = initialDimension;
+        this.pairCounts = new int[initialDimension * initialDimension];
+        this.itemCounts = new int[initialDimension];
+    }
+
+    /**
+     * 유저 한 명이 고른 항목 묶음 반영
+     * @param ids 추천 id (중복 허용, 배열 앞쪽 length 개만 사용하며 정렬 순서가 바뀜)
+     * @throws IllegalArgumentException id 가 0 이하이거나 maxDimension 을 넘는 경우
+     */
+    public void addBasket(long[] ids, int length) {
+        int distinct = distinctSorted(ids, length);
+        if (distinct == 0) {
+            return;
+        }
+        ensureDimension(ids[distinct - 1]);
+
+        for (int i = 0; i < distinct; i++) {
+            int a = (int) ids[i];
+            itemCounts[a]++;
+            int row = a * dimension;
+            for (int j = i + 1; j < distinct; j++) {
+                int b = (int) ids[j];
+                pairCounts[row + b]++;
+                pairCounts[b * dimension + a]++;
+            }
+        }
+        baskets++;
+    }
+
+    public int count(long id) {
+        return inRange(id) ? itemCounts[(int) id] : 0;
+    }
+
+    public int count(long a, long b) {
+        return inRange(a) && inRange(b) ? pairCounts[(int) a * dimension + (int) b] : 0;
+    }
+
+    public long baskets() {
+        return baskets;
+    }
+
+    public long sizeInBytes() {
+        return (long) (pairCounts.length + itemCounts.length) * Integer.BYTES;
+    }
+
+    /**
+     * ids 를 고른 유저들이 함께 고른 항목 상위 limit 개 (ids 자신은 제외)
+     * 여러 개면 각 행을 합산, 동점은 id 오름차순
+     */
+    public List<Related> topRelated(long[] ids, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        int[] scores = new int[dimension];
+        boolean[] excluded = new boolean[dimension];
+        for (long id : ids) {
+            if (!inRange(id)) {
+                continue;
+            }
+            int row = (int) id * dimension;
+            for (int b = 1; b < dimension; b++) {
+                scores[b] += pairCounts[row + b];
+            }
+            excluded[(int) id] = true;
+        }
+
+        // 상위 limit 개만 유지 (내림차순 삽입 정렬, limit 이 작아서 힙보다 단순)
+        int[] topIds = new int[Math.min(limit, dimension)];
+        int[] topScores = new int[topIds.length];
+        int size = 0;
+        for (int b = 1; b < dimension; b++) {
+            int score = scores[b];
+            if (score == 0 || excluded[b] || (size == topIds.length && score <= topScores[size - 1])) {
+                continue;
+            }
+            int position = size == topIds.length ? size - 1 : size++;
+            while (position > 0 && topScores[position - 1] < score) {
+                topIds[position] = topIds[position - 1];
+                topScores[position] = topScores[position - 1];
+                position--;
+            }
+            topIds[position] = b;
+            topScores[position] = score;
+        }
+
+        List<Related> related = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            related.add(new Related(topIds[i], topScores[i], itemCounts[topIds[i]]));
+        }
+        return related;
+    }
+
+    // 정렬 후 중복 제거, 남은 개수 반환
+    private static int distinctSorted(long[] ids, int length) {
+        Arrays.sort(ids, 0, length);
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (ids[i] <= 0) {
+                throw new IllegalArgumentException("Recommend id must be positive: " + ids[i]);
+            }
+            if (distinct == 0 || ids[distinct - 1] != ids[i]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return distinct;
+    }
+
+    private void ensureDimension(long maxId) {
+        if (maxId < dimension) {
+            return;
+        }
+        if (maxId >= maxDimension) {
+            throw new IllegalArgumentException("Recommend id exceeds co-occurrence dimension " + maxDimension + ": " + maxId);
+        }
+        int grown = (int) Math.min(maxDimension, Math.max(maxId + 1, (long) dimension * 2));
+
+        int[] grownPairs = new int[grown * grown];
+        for (int a = 0; a < dimension; a++) {
+            System.arraycopy(pairCounts, a * dimension, grownPairs, a * grown, dimension);
+        }
+        pairCounts = grownPairs;
+        itemCounts = Arrays.copyOf(itemCounts, grown);
+        dimension = grown;
+    }
+
+    private boolean inRange(long id) {
+        return id > 0 && id < dimension;
+    }
+
+    // count = 함께 고른 유저 수, support = 해당 항목을 고른 전체 유저 수
+    public record Related(long recommendId, int count, int support) {
+    }
+
+}
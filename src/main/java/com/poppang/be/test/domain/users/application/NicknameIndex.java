@@ -0,0 +1,156 @@
+package com.poppang.be.test.domain.users.application;
+
+import com.poppang.be.test.domain.users.config.NicknameIndexProperties;
+import com.poppang.be.test.domain.users.infrastructure.UsersInvalidationBus;
+import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
+import com.poppang.be.test.domain.users.infrastructure.UsersRepository.NicknameRow;
+import com.poppang.be.test.domain.users.util.NicknameBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/*
+닉네임 사용 여부 인덱스
+- Bloom filter 에 없으면 DB 조회 없이 "사용 가능"
+- Bloom filter 에 있으면(오탐 포함) uk_users_nickname 인덱스로 exists 확인
+- 기동 시 DB 전체로 재구축, 가입 시 즉시 추가 + UsersInvalidationBus 로 다른 인스턴스에도 바로 전파
+- updated_at 기준 증분 동기화는 bus 로 놓친 것(전파 실패, 재구축 직후 등)을 메우는 안전망
+- 최종 정합성은 DB unique 제약이 보장 (동시에 같은 닉네임으로 가입하면 늦은 쪽이 제약 위반으로 거절)
+ */
+@Slf4j
+@Component
+public class NicknameIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final UsersRepository usersRepository;
+    private final NicknameIndexProperties nicknameIndexProperties;
+    private final UsersInvalidationBus usersInvalidationBus;
+
+    private volatile NicknameBloomFilter filter;
+    // 재구축 중인 filter (그 사이 bus 로 온 닉네임도 함께 넣어서 교체 시 빠지지 않게)
+    private volatile NicknameBloomFilter building;
+    private volatile LocalDateTime syncedSince;
+
+    public NicknameIndex(UsersRepository usersRepository,
+                         NicknameIndexProperties nicknameIndexProperties,
+                         UsersInvalidationBus usersInvalidationBus) {
+        this.usersRepository = usersRepository;
+        this.nicknameIndexProperties = nicknameIndexProperties;
+        this.usersInvalidationBus = usersInvalidationBus;
+
+        // 다른 인스턴스(및 자기 자신)에서 가입한 닉네임
+        usersInvalidationBus.subscribeNicknames(this::addLocal);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // 전체 재구축: 새 filter 를 채운 뒤 교체, 재구축 중 bus 로 온 가입분은 새 filter 에도 넣음
+    public synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now().minus(nicknameIndexProperties.getSyncOverlap());
+        NicknameBloomFilter rebuilt = new NicknameBloomFilter(
+                nicknameIndexProperties.getExpectedInsertions(),
+                nicknameIndexProperties.getFalsePositiveRate()
+        );
+        building = rebuilt;
+
+        long count = 0;
+        long afterId = 0L;
+        PageRequest page = PageRequest.of(0, nicknameIndexProperties.getRebuildPageSize());
+        List<NicknameRow> rows;
+        do {
+            rows = usersRepository.findNicknamesAfter(afterId, page);
+            for (NicknameRow row : rows) {
+                rebuilt.put(normalize(row.getNickname()));
+                afterId = row.getId();
+            }
+            count += rows.size();
+        } while (rows.size() == page.getPageSize());
+
+        filter = rebuilt;
+        building = null;
+        syncedSince = startedAt;
+        log.info("Rebuilt nickname index with {} nicknames ({} bits, {} hashes)",
+                count, rebuilt.bitCount(), rebuilt.hashCount());
+    }
+
+    @Scheduled(
+            initialDelayString = "${users.nickname-index.sync-interval:PT30S}",
+            fixedDelayString = "${users.nickname-index.sync-interval:PT30S}"
+    )
+    public synchronized void sync() {
+        NicknameBloomFilter current = filter;
+        if (current == null) {
+            return;
+        }
+
+        try {
+            LocalDateTime next = LocalDateTime.now().minus(nicknameIndexProperties.getSyncOverlap());
+            for (String nickname : usersRepository.findNicknamesUpdatedSince(syncedSince)) {
+                current.put(normalize(nickname));
+            }
+            syncedSince = next;
+        } catch (Exception e) {
+            log.warn("Failed to sync nickname index since {}", syncedSince, e);
+        }
+    }
+
+    public boolean isTaken(String nickname) {
+        if (nickname == null) {
+            return false;
+        }
+
+        // 재구축 전이면 DB 로 바로 확인
+        NicknameBloomFilter current = filter;
+        if (current != null && !current.mightContain(normalize(nickname))) {
+            return false;
+        }
+        return usersRepository.existsByNickname(nickname);
+    }
+
+    // 가입 시 호출, 커밋 전에 전파해서 다른 인스턴스가 "사용 가능" 으로 답하는 구간을 없앰
+    // (롤백돼도 오탐만 늘 뿐 결과는 틀리지 않음)
+    public void add(String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        addLocal(nickname);
+        usersInvalidationBus.publishNickname(nickname);
+    }
+
+    private void addLocal(String nickname) {
+        String key = normalize(nickname);
+        // building 먼저 (rebuild 는 filter 교체 후 building 을 비우므로 이 순서면 교체 직전 추가분도 새 filter 에 남음)
+        NicknameBloomFilter next = building;
+        if (next != null) {
+            next.put(key);
+        }
+        NicknameBloomFilter current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+
+    // DB 가 같다고 보는 값은 반드시 같은 키로 (더 많이 묶는 건 오탐만 늘 뿐 안전)
+    // - MySQL 8 기본 utf8mb4_0900_ai_ci: 대소문자 / 악센트 / 전각·반각 무시 → NFKD 분해 후 결합 문자 제거 + 소문자
+    // - 구버전 _ci collation(PAD SPACE): 뒤 공백 무시 → stripTrailing
+    // 여기서 못 묶는 드문 경우(ß = ss 등)도 가입 시 uk_users_nickname 제약으로 거절됨
+    static String normalize(String nickname) {
+        String folded = Normalizer.normalize(nickname, Normalizer.Form.NFKD);
+        folded = COMBINING_MARKS.matcher(folded).replaceAll("");
+        return folded.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -1,19 +1,19 @@
 package com.poppang.be.test.domain.users.application;
 
 import com.poppang.be.test.domain.users.dto.response.NicknameDuplicateResponseDto;
-import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+// 트랜잭션 없음: Bloom filter 음성은 커넥션 없이 끝나고, DB 확인은 readOnly 레포지토리 메서드가 알아서 연다
 public class UsersService {
 
-    private final UsersRepository usersRepository;
+    private final NicknameIndex nicknameIndex;
 
     public NicknameDuplicateResponseDto checkNicknameDuplicated(String nickname) {
 
-        boolean duplicated = usersRepository.existsByNickname(nickname);
+        boolean duplicated = nicknameIndex.isTaken(nickname);
 
         return NicknameDuplicateResponseDto.from(duplicated);
     }
@@ -0,0 +1,29 @@
+package com.poppang.be.test.domain.users.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "users.nickname-index")
+public class NicknameIndexProperties {
+
+    // Bloom filter 크기 기준 (예상 닉네임 수 / 목표 오탐률)
+    private long expectedInsertions = 1_000_000L;
+    private double falsePositiveRate = 0.01;
+
+    // bus 로 전파되지 못한 다른 인스턴스 가입 닉네임을 DB 에서 가져오는 주기
+    private Duration syncInterval = Duration.ofSeconds(30);
+
+    // 증분 동기화 시 updated_at 기준을 이만큼 앞당겨서 조회 (인스턴스 간 시계 오차 / 늦게 커밋된 트랜잭션 대비)
+    private Duration syncOverlap = Duration.ofMinutes(1);
+
+    // 기동 시 전체 적재 페이지 크기
+    private int rebuildPageSize = 5_000;
+
+}
@@ -0,0 +1,7 @@
+package com.poppang.be.test.domain.users.entity;
+
+import java.util.List;
+
+// 회원가입 완료 (키워드 / 추천은 JdbcTemplate 으로 저장되므로 엔티티 리스너 대신 서비스에서 직접 발행)
+public record SignupCompletedEvent(Long userId, boolean alerted, List<Integer> keywordIds, List<Long> recommendIds) {
+}
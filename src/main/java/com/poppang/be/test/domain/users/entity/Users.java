@@ -10,9 +10,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@EntityListeners(UsersEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = @UniqueConstraint(name = "uk_users_nickname", columnNames = "nickname"),
+        indexes = @Index(name = "idx_users_updated_at", columnList = "updated_at")
+)
 public class Users extends BaseEntity {
 
     @Id
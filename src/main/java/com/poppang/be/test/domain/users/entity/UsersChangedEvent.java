@@ -0,0 +1,15 @@
+package com.poppang.be.test.domain.users.entity;
+
+// Users 행이 수정/삭제됨 (uid 기준 캐시 무효화, 알림 동의 / 탈퇴 여부는 타게팅 인덱스 갱신용)
+public record UsersChangedEvent(Long id, String uid, boolean alerted, boolean deleted) {
+
+    public static UsersChangedEvent updated(Users user) {
+        return new UsersChangedEvent(user.getId(), user.getUid(), user.isAlerted(), user.isDeleted());
+    }
+
+    // 행 자체가 지워진 경우는 탈퇴와 같게 취급
+    public static UsersChangedEvent removed(Users user) {
+        return new UsersChangedEvent(user.getId(), user.getUid(), false, true);
+    }
+
+}
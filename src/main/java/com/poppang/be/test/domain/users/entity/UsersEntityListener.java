@@ -0,0 +1,34 @@
+package com.poppang.be.test.domain.users.entity;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/*
+Users 변경 감지 → UsersChangedEvent 발행
+- flush 시점(트랜잭션 안)에 호출되므로, 받는 쪽은 @TransactionalEventListener 로 커밋 이후에 처리
+- 네이티브 쿼리 / JdbcTemplate 으로 users 를 바꾸는 경우는 여기로 오지 않으므로 직접 이벤트를 발행해야 함
+ */
+@Component
+@RequiredArgsConstructor
+public class UsersEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void onUpdated(Users user) {
+        if (user.getUid() != null) {
+            eventPublisher.publishEvent(UsersChangedEvent.updated(user));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Users user) {
+        if (user.getUid() != null) {
+            eventPublisher.publishEvent(UsersChangedEvent.removed(user));
+        }
+    }
+
+}
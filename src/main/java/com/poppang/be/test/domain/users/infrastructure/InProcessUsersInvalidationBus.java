@@ -0,0 +1,53 @@
+package com.poppang.be.test.domain.users.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 단일 인스턴스 / 테스트용 무효화 bus (같은 JVM 구독자에게만 동기 전달)
+// 다른 구현체를 쓸 때는 users.invalidation-bus.type 을 바꿔서 이 빈을 끔
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "users.invalidation-bus", name = "type", havingValue = "in-process", matchIfMissing = true)
+public class InProcessUsersInvalidationBus implements UsersInvalidationBus {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<String>> nicknameListeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String uid) {
+        for (Consumer<String> listener : listeners) {
+            try {
+                listener.accept(uid);
+            } catch (RuntimeException e) {
+                log.warn("Users invalidation listener failed for uid={}", uid, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void publishNickname(String nickname) {
+        for (Consumer<String> listener : nicknameListeners) {
+            try {
+                listener.accept(nickname);
+            } catch (RuntimeException e) {
+                log.warn("Nickname listener failed", e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribeNicknames(Consumer<String> listener) {
+        nicknameListeners.add(listener);
+    }
+
+}
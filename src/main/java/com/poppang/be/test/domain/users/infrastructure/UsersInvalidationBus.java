@@ -0,0 +1,21 @@
+package com.poppang.be.test.domain.users.infrastructure;
+
+import java.util.function.Consumer;
+
+/*
+유저 캐시 무효화 pub/sub
+- publish 한 uid 는 자신을 포함한 모든 인스턴스의 구독자에게 전달
+- publishNickname 은 새로 쓰인 닉네임을 같은 방식으로 전달 (각 인스턴스 닉네임 인덱스에 바로 반영)
+- 구현체 교체(Redis pub/sub 등)는 이 인터페이스의 빈을 등록하면 됨
+ */
+public interface UsersInvalidationBus {
+
+    void publish(String uid);
+
+    void subscribe(Consumer<String> listener);
+
+    void publishNickname(String nickname);
+
+    void subscribeNicknames(Consumer<String> listener);
+
+}
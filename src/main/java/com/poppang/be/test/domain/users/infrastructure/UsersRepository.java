@@ -1,18 +1,82 @@
 package com.poppang.be.test.domain.users.infrastructure;
 
+import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.users.entity.Provider;
 import com.poppang.be.test.domain.users.entity.Users;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UsersRepository extends JpaRepository<Users, Long> {
 
+    // 읽기 전용 조회: 바깥 트랜잭션이 없으면 replica 로 (datasource.replica.enabled), 있으면 그 트랜잭션에 참여
+    @Transactional(readOnly = true)
     Optional<Users> findByUid(String uid);
 
+    @Transactional(readOnly = true)
     boolean existsByNickname(String nickname);
 
+    // LoginProfileCache loader 전용: 일부러 primary 에서 조회 (readOnly 아님)
+    // 지연된 replica 에서 읽으면 무효화(tombstone) 이후에도 수정 전 / 탈퇴 전 프로필이 다시 캐시되어 TTL 동안 남음
+    @Transactional
     Optional<Users> findByUidAndDeletedFalse(String uid);
 
+    // 닉네임 인덱스 재구축용 (id keyset 페이지)
+    @Query("select u.id as id, u.nickname as nickname from Users u where u.id > :afterId and u.nickname is not null order by u.id")
+    List<NicknameRow> findNicknamesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 닉네임 인덱스 증분 동기화용 (idx_users_updated_at)
+    @Query("select u.nickname from Users u where u.updatedAt >= :since and u.nickname is not null")
+    List<String> findNicknamesUpdatedSince(@Param("since") LocalDateTime since);
+
+    // uid 가 없을 때만 insert (동시에 최초 로그인해도 unique 제약 위반 없이 한 행만 생성)
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO users (uid, provider, email, role, is_alerted, is_deleted, created_at, updated_at)
+            VALUES (:uid, :provider, :email, :role, false, false, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE uid = uid
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("uid") String uid,
+                       @Param("provider") String provider,
+                       @Param("role") String role,
+                       @Param("email") String email);
+
+    // 잠금 읽기: 바깥 트랜잭션의 스냅샷과 관계없이 방금 커밋된 행까지 조회
+    @Transactional
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select u from Users u where u.uid = :uid")
+    Optional<Users> findByUidForShare(@Param("uid") String uid);
+
+    // update + insert (존재하면 값 반환, 없으면 insert 후 반환)
+    // - INSERT ... ON DUPLICATE KEY UPDATE 후 primary 에서 잠금 읽기, 최초 / 기존 유저 모두 왕복 2회
+    //   (MySQL 은 INSERT 가 행을 돌려주지 않아서 1회로는 불가, 동시 최초 로그인도 500 없이 같은 행 반환)
+    // - 앞에 SELECT 를 두지 않음: 두면 최초 로그인이 3회가 됨
+    // - 로그인 흐름에서 DB 커넥션을 잡는 유일한 구간 (provider 호출은 이 트랜잭션 밖에서 끝냄)
+    @Transactional
+    default Users upsertByUid(String uid, Provider provider, String email) {
+        insertIfAbsent(uid, provider.name(), Role.MEMBER.name(), email);
+        return findByUidForShare(uid)
+                .orElseThrow(() -> new IllegalStateException("유저를 찾을 수 없습니다. "));
+    }
+
+    interface NicknameRow {
+
+        Long getId();
+
+        String getNickname();
+
+    }
+
 }
@@ -0,0 +1,30 @@
+-- 키워드 사전 + user_keyword 를 (users_id, keyword_id) 로 축소
+-- ddl-auto 를 쓰지 않는 환경에서 수동 적용
+
+-- 1) 사전 테이블 (이름 비교는 대소문자 / 악센트 구분: 애플리케이션의 name -> id 맵과 같은 기준)
+CREATE TABLE keyword (
+    id   INT          NOT NULL AUTO_INCREMENT,
+    name VARCHAR(100) NOT NULL COLLATE utf8mb4_bin,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_keyword_name UNIQUE (name)
+);
+
+-- 2) 기존 테이블 보관 후 좁은 테이블 생성
+RENAME TABLE user_keyword TO user_keyword_legacy;
+
+CREATE TABLE user_keyword (
+    users_id   BIGINT NOT NULL,
+    keyword_id INT    NOT NULL,
+    PRIMARY KEY (users_id, keyword_id),
+    INDEX idx_user_keyword_keyword (keyword_id),
+    CONSTRAINT fk_user_keyword_users FOREIGN KEY (users_id) REFERENCES users (id),
+    CONSTRAINT fk_user_keyword_keyword FOREIGN KEY (keyword_id) REFERENCES keyword (id)
+);
+
+-- 3) 데이터 이관: 한 인스턴스를 keyword.migration.enabled=true 로 기동
+--    (legacy 를 chunk 단위로 읽어 변환, 중단되면 로그의 마지막 id 로 keyword.migration.start-after-id 지정 후 재실행)
+
+-- 4) 검증 후 legacy 삭제
+SELECT COUNT(DISTINCT users_id, TRIM(keyword)) FROM user_keyword_legacy WHERE TRIM(keyword) <> '';
+SELECT COUNT(*) FROM user_keyword;
+-- DROP TABLE user_keyword_legacy;
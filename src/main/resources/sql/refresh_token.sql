@@ -0,0 +1,20 @@
+-- 세션 리프레시 토큰 (원문이 아닌 SHA-256 해시만 저장)
+-- ddl-auto 를 쓰지 않는 환경에서 수동 적용
+
+CREATE TABLE refresh_token (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id  VARCHAR(36) NOT NULL,
+    users_id   BIGINT      NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    is_revoked BIT(1)      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_token_hash UNIQUE (token_hash),
+    INDEX idx_refresh_token_family (family_id),
+    CONSTRAINT fk_refresh_token_users FOREIGN KEY (users_id) REFERENCES users (id)
+);
+
+-- 만료된 토큰 정리 (주기적으로 실행)
+DELETE FROM refresh_token WHERE expires_at < NOW() - INTERVAL 1 DAY;
@@ -0,0 +1,10 @@
+-- 닉네임 중복 확인(/api/v1/user/nickname/duplicated) 및 닉네임 인덱스 증분 동기화용 인덱스
+-- ddl-auto 를 쓰지 않는 환경에서 수동 적용
+
+-- 1) 적용 전 중복 닉네임 확인 (결과가 있으면 정리 후 진행)
+SELECT nickname, COUNT(*) FROM users WHERE nickname IS NOT NULL GROUP BY nickname HAVING COUNT(*) > 1;
+
+-- 2) 인덱스 추가
+ALTER TABLE users
+    ADD CONSTRAINT uk_users_nickname UNIQUE (nickname),
+    ADD INDEX idx_users_updated_at (updated_at);
@@ -0,0 +1,36 @@
+package com.poppang.be.test.common.config;
+
+import com.poppang.be.test.domain.users.entity.Provider;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OAuthHttpPropertiesTest {
+
+    @Test
+    void provider_설정에_없는_항목은_defaults_에서_항목_단위로_채움() {
+        OAuthHttpProperties properties = new OAuthHttpProperties();
+        properties.getDefaults().setMaxConnections(200);
+
+        OAuthHttpProperties.Pool apple = new OAuthHttpProperties.Pool();
+        apple.setReadTimeout(Duration.ofSeconds(10));
+        apple.setHttp2(false);
+        properties.getProviders().put(Provider.APPLE, apple);
+
+        OAuthHttpProperties.Pool merged = properties.pool(Provider.APPLE);
+
+        assertThat(merged.getReadTimeout()).isEqualTo(Duration.ofSeconds(10));
+        assertThat(merged.getHttp2()).isFalse();
+        // 지정하지 않은 항목: 바꾼 defaults 값 / 원래 기본값
+        assertThat(merged.getMaxConnections()).isEqualTo(200);
+        assertThat(merged.getMaxConnectionsPerRoute()).isEqualTo(20);
+        assertThat(merged.getConnectTimeout()).isEqualTo(Duration.ofSeconds(2));
+        assertThat(merged.getTimeToLive()).isEqualTo(Duration.ofMinutes(5));
+
+        // provider 설정이 없으면 defaults 그대로
+        assertThat(properties.pool(Provider.KAKAO)).isSameAs(properties.getDefaults());
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.poppang.be.test.common.datasource;
+
+import com.poppang.be.test.common.config.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+임베디드 H2 두 개(primary / replica)로 라우팅 검증
+- 각 DB 의 marker 테이블에 자기 이름을 넣어 두고, 어느 쪽에서 읽었는지 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        primaryJdbc = new JdbcTemplate(primary);
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE TABLE replica_lag (lag_seconds DOUBLE)");
+        replicaJdbc.update("INSERT INTO replica_lag VALUES (0)");
+
+        properties.setLagQuery("SELECT lag_seconds FROM replica_lag");
+        properties.setLagColumn("lag_seconds");
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, Map.of("replica-0", replica), meterRegistry);
+        monitor = new ReplicaLagMonitor(routing, properties, meterRegistry);
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica_쓰기는_primary() {
+        monitor.checkAll();
+
+        assertThat(markerIn(readOnlyTx)).isEqualTo("replica");
+        assertThat(markerIn(writeTx)).isEqualTo("primary");
+        // 트랜잭션 밖은 primary
+        assertThat(marker()).isEqualTo("primary");
+    }
+
+    @Test
+    void 첫_지연_확인_전이나_지연이_크면_primary() {
+        assertThat(markerIn(readOnlyTx)).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET lag_seconds = 5");
+        monitor.checkAll();
+        assertThat(markerIn(readOnlyTx)).isEqualTo("primary");
+
+        replicaJdbc.update("UPDATE replica_lag SET lag_seconds = 0.2");
+        monitor.checkAll();
+        assertThat(markerIn(readOnlyTx)).isEqualTo("replica");
+
+        // 복제 중단 (NULL)
+        replicaJdbc.update("UPDATE replica_lag SET lag_seconds = NULL");
+        monitor.checkAll();
+        assertThat(markerIn(readOnlyTx)).isEqualTo("primary");
+    }
+
+    @Test
+    void 같은_요청에서_쓴_뒤의_읽기는_primary() {
+        monitor.checkAll();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        assertThat(markerIn(readOnlyTx)).isEqualTo("replica");
+
+        writeTx.executeWithoutResult(status -> jdbcTemplate.update("INSERT INTO marker VALUES ('written')"));
+        Integer count = readOnlyTx.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM marker", Integer.class));
+        assertThat(count).isEqualTo(2);
+
+        // 다른 요청은 다시 replica
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(markerIn(readOnlyTx)).isEqualTo("replica");
+        assertThat(primaryJdbc.queryForObject("SELECT COUNT(*) FROM marker", Integer.class)).isEqualTo(2);
+    }
+
+    private String markerIn(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> marker());
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker ORDER BY name LIMIT 1", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+
+}
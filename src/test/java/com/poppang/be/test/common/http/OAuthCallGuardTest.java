@@ -0,0 +1,47 @@
+package com.poppang.be.test.common.http;
+
+import com.poppang.be.test.common.config.OAuthResilienceProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuthCallGuardTest {
+
+    private final OAuthCallGuard guard = new OAuthCallGuard(new OAuthResilienceProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void 구글_장애로_circuit_이_열려도_카카오는_영향_없음() {
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> guard.execute(Provider.GOOGLE, () -> {
+                throw new ResourceAccessException("google down");
+            }));
+        }
+
+        assertThat(guard.state(Provider.GOOGLE)).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> guard.execute(Provider.GOOGLE, () -> "never called"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("temporarily unavailable");
+
+        assertThat(guard.state(Provider.KAKAO)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(guard.execute(Provider.KAKAO, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void 클라이언트_오류는_circuit_을_열지_않음() {
+        for (int i = 0; i < 30; i++) {
+            assertThatThrownBy(() -> guard.execute(Provider.APPLE, () -> {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(guard.state(Provider.APPLE)).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.poppang.be.test.domain.audience.application;
+
+import com.poppang.be.test.domain.audience.config.AudienceIndexProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AudienceIndexTest {
+
+    private static final int POPUP = 1;
+    private static final int GOODS = 2;
+
+    private final AudienceIndex index = new AudienceIndex(null, new AudienceIndexProperties());
+
+    @Test
+    void 알림동의_미탈퇴_키워드_OR_조건() {
+        index.upsertUser(1L, true, false);
+        index.addKeywords(1L, List.of(POPUP));
+        index.upsertUser(2L, true, false);
+        index.addKeywords(2L, List.of(GOODS));
+        index.upsertUser(3L, false, false);   // 알림 미동의
+        index.addKeywords(3L, List.of(POPUP));
+        index.upsertUser(4L, true, true);     // 탈퇴
+        index.addKeywords(4L, List.of(POPUP, GOODS));
+        index.upsertUser(5L, true, false);    // 관심 키워드 없음
+
+        assertThat(index.userIds(AudienceQuery.pushCampaign(List.of(POPUP, GOODS))).toArray())
+                .containsExactly(1, 2);
+        assertThat(index.userIds(AudienceQuery.keyword(POPUP).and(AudienceQuery.not(AudienceQuery.keyword(GOODS)))).toArray())
+                .containsExactly(1, 3);
+    }
+
+    @Test
+    void 프로필_변경이_증분_반영되고_결과는_인덱스와_독립() {
+        index.upsertUser(1L, true, false);
+        index.addKeywords(1L, List.of(POPUP));
+
+        var selected = index.select(AudienceQuery.keyword(POPUP));
+        selected.add(99);
+        index.upsertUser(1L, false, false);
+
+        assertThat(index.count(AudienceQuery.keyword(POPUP))).isEqualTo(1);
+        assertThat(index.count(AudienceQuery.pushCampaign(List.of(POPUP)))).isZero();
+    }
+
+}
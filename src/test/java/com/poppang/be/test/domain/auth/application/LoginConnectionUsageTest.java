@@ -0,0 +1,181 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.poppang.be.test.domain.auth.apple.application.AppleAuthService;
+import com.poppang.be.test.domain.auth.apple.dto.request.AppleAppLoginRequestDto;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.auth.infrastructure.RefreshTokenRepository;
+import com.poppang.be.test.domain.auth.kakao.application.KakaoAuthService;
+import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+provider(stub) 응답을 기다리는 동안 Hikari 커넥션을 잡고 있지 않은지 검증
+- stub 핸들러 안에서(= 로그인 스레드가 provider 응답을 기다리는 중) active 커넥션 수를 기록
+ */
+@SpringBootTest
+class LoginConnectionUsageTest {
+
+    private static final String APPLE_CLIENT_ID = "com.poppang.test";
+
+    private static final RSAKey APPLE_KEY = generateKey();
+    private static final HttpServer PROVIDER = startProvider();
+
+    private static volatile HikariPoolMXBean pool;
+    private static final AtomicInteger providerCalls = new AtomicInteger();
+    private static final AtomicInteger maxActiveDuringProviderCall = new AtomicInteger();
+
+    @Autowired
+    private KakaoAuthService kakaoAuthService;
+
+    @Autowired
+    private AppleAuthService appleAuthService;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void providerProperties(DynamicPropertyRegistry registry) {
+        String base = "http://127.0.0.1:" + PROVIDER.getAddress().getPort();
+        registry.add("kakao.token-uri", () -> base + "/kakao/token");
+        registry.add("kakao.user-info-uri", () -> base + "/kakao/me");
+        registry.add("apple.token-uri", () -> base + "/apple/token");
+        registry.add("apple.jwks-uri", () -> base + "/apple/keys");
+        // 백그라운드 동기화가 측정 중에 커넥션을 잡지 않도록
+        registry.add("users.nickname-index.sync-interval", () -> "PT1H");
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+        providerCalls.set(0);
+        maxActiveDuringProviderCall.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 로그인마다 refresh_token 행이 생김 (users FK)
+        refreshTokenRepository.deleteAll();
+        usersRepository.deleteAll();
+    }
+
+    @Test
+    void 카카오_웹로그인_provider_호출중에는_커넥션을_잡지_않음() {
+        LoginResponseDto response = kakaoAuthService.webLogin("kakao-code");
+
+        assertThat(response.getUid()).isEqualTo("4242");
+        assertThat(providerCalls.get()).isEqualTo(2);
+        assertThat(maxActiveDuringProviderCall.get()).isZero();
+    }
+
+    @Test
+    void 애플_앱로그인_provider_호출중에는_커넥션을_잡지_않음() throws Exception {
+        AppleAppLoginRequestDto request = objectMapper.readValue("{\"auth_code\":\"apple-code\"}", AppleAppLoginRequestDto.class);
+
+        LoginResponseDto response = appleAuthService.mobileLogin(request);
+
+        assertThat(response.getUid()).isEqualTo("001234.apple.5678");
+        assertThat(providerCalls.get()).isGreaterThanOrEqualTo(1);
+        assertThat(maxActiveDuringProviderCall.get()).isZero();
+    }
+
+    private static HttpServer startProvider() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            respond(server, "/kakao/token", () -> "{\"access_token\":\"kakao-access\",\"token_type\":\"bearer\"}");
+            respond(server, "/kakao/me", () -> "{\"id\":4242,\"kakao_account\":{}}");
+            respond(server, "/apple/token", () -> "{\"access_token\":\"apple-access\",\"id_token\":\"" + appleIdToken() + "\"}");
+            respond(server, "/apple/keys", () -> new JWKSet(APPLE_KEY.toPublicJWK()).toString());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpServer server, String path, Supplier<String> body) {
+        server.createContext(path, exchange -> {
+            HikariPoolMXBean current = pool;
+            if (current != null) {
+                providerCalls.incrementAndGet();
+                maxActiveDuringProviderCall.accumulateAndGet(current.getActiveConnections(), Math::max);
+            }
+
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+
+    private static String appleIdToken() {
+        try {
+            Instant now = Instant.now();
+            SignedJWT jwt = new SignedJWT(
+                    new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(APPLE_KEY.getKeyID()).build(),
+                    new JWTClaimsSet.Builder()
+                            .issuer("https://appleid.apple.com")
+                            .audience(APPLE_CLIENT_ID)
+                            .subject("001234.apple.5678")
+                            .claim("email", "test@privaterelay.appleid.com")
+                            .issueTime(Date.from(now))
+                            .expirationTime(Date.from(now.plusSeconds(600)))
+                            .build()
+            );
+            jwt.sign(new RSASSASigner(APPLE_KEY));
+            return jwt.serialize();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048).keyID("test-apple-kid").generate();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.poppang.be.test.domain.auth.config.LoginCacheProperties;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.users.entity.UsersChangedEvent;
+import com.poppang.be.test.domain.users.infrastructure.InProcessUsersInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginProfileCacheTest {
+
+    private InProcessUsersInvalidationBus bus;
+    private LoginProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessUsersInvalidationBus();
+        cache = new LoginProfileCache(new LoginCacheProperties(), bus, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 두번째_조회는_DB를_타지_않음() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("uid-1", () -> load(loads, "uid-1"));
+        cache.get("uid-1", () -> load(loads, "uid-1"));
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 조회중에_무효화되면_옛값을_캐시하지_않음() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("uid-1", () -> {
+            Optional<LoginResponseDto> stale = load(loads, "uid-1");
+            cache.onUsersChanged(new UsersChangedEvent(1L, "uid-1", false, false));
+            return stale;
+        });
+        cache.get("uid-1", () -> load(loads, "uid-1"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void bus_로_받은_무효화도_반영() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("uid-1", () -> load(loads, "uid-1"));
+        bus.publish("uid-1");
+        cache.get("uid-1", () -> load(loads, "uid-1"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 없는_유저는_캐시하지_않음() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get("uid-1", () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        cache.get("uid-1", () -> load(loads, "uid-1"));
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private static Optional<LoginResponseDto> load(AtomicInteger loads, String uid) {
+        loads.incrementAndGet();
+        return Optional.of(LoginResponseDto.builder().uid(uid).build());
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.poppang.be.test.domain.auth.config.LoginSingleFlightProperties;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginSingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginSingleFlight singleFlight = new LoginSingleFlight(new LoginSingleFlightProperties(), meterRegistry);
+
+    @Test
+    void 동시에_들어온_같은_자격증명은_한번만_실행() throws Exception {
+        int callers = 8;
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<LoginResponseDto>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(Provider.KAKAO, "same-token", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return LoginResponseDto.builder().uid("4242").build();
+                })));
+            }
+
+            // 나머지 호출이 모두 leader 에 합류할 때까지 대기 후 leader 완료
+            while (meterRegistry.counter("auth.login.single_flight", "provider", "kakao", "result", "joined").count() < callers - 1) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            LoginResponseDto first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<LoginResponseDto> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(first);
+            }
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 끝난 뒤 늦게 온 재시도는 memo 에서 응답
+        LoginResponseDto late = singleFlight.execute(Provider.KAKAO, "same-token", () -> {
+            throw new AssertionError("should be memoized");
+        });
+        assertThat(late.getUid()).isEqualTo("4242");
+    }
+
+    @Test
+    void 실패한_결과는_보관하지_않음() {
+        assertThatThrownBy(() -> singleFlight.execute(Provider.APPLE, "used-code", () -> {
+            throw new IllegalStateException("invalid_grant");
+        })).isInstanceOf(IllegalStateException.class);
+
+        LoginResponseDto retried = singleFlight.execute(Provider.APPLE, "used-code",
+                () -> LoginResponseDto.builder().uid("001234.apple.5678").build());
+        assertThat(retried.getUid()).isEqualTo("001234.apple.5678");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
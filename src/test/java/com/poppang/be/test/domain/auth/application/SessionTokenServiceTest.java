@@ -0,0 +1,145 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.auth.dto.response.LoginResponseDto;
+import com.poppang.be.test.domain.auth.entity.RefreshToken;
+import com.poppang.be.test.domain.auth.infrastructure.RefreshTokenRepository;
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.Users;
+import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+리프레시 토큰 rotation / 재사용 탐지
+- 테스트 메서드에는 트랜잭션을 걸지 않음: refresh 예외 뒤에도 family revoke 가 커밋됐는지를 새 조회로 확인
+ */
+@SpringBootTest
+class SessionTokenServiceTest {
+
+    @Autowired
+    private SessionTokenService sessionTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        usersRepository.deleteAll();
+    }
+
+    @Test
+    void refresh_하면_새_토큰을_발급하고_이전_토큰은_revoke() {
+        LoginResponseDto login = sessionTokenService.login(saveUser("4242", false));
+
+        LoginResponseDto refreshed = sessionTokenService.refresh(login.getRefreshToken());
+
+        assertThat(refreshed.getUid()).isEqualTo("4242");
+        assertThat(refreshed.getAccessToken()).isNotBlank();
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+        assertThat(stored(login.getRefreshToken()).isRevoked()).isTrue();
+        assertThat(stored(refreshed.getRefreshToken()).isRevoked()).isFalse();
+        assertThat(stored(refreshed.getRefreshToken()).getFamilyId()).isEqualTo(stored(login.getRefreshToken()).getFamilyId());
+
+        // 새 토큰으로 다시 rotation 가능
+        assertThat(sessionTokenService.refresh(refreshed.getRefreshToken()).getUid()).isEqualTo("4242");
+    }
+
+    @Test
+    void revoke_된_토큰을_다시_쓰면_family_전체를_revoke_하고_커밋() {
+        Users user = saveUser("4242", false);
+        LoginResponseDto login = sessionTokenService.login(user);
+        LoginResponseDto refreshed = sessionTokenService.refresh(login.getRefreshToken());
+        LoginResponseDto otherDevice = sessionTokenService.login(user);
+
+        assertThatThrownBy(() -> sessionTokenService.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 예외로 끝난 트랜잭션이어도 revoke 는 커밋되어 탈취된 쪽의 최신 토큰도 더 이상 쓸 수 없음
+        String familyId = stored(login.getRefreshToken()).getFamilyId();
+        List<RefreshToken> family = refreshTokenRepository.findAll().stream()
+                .filter(token -> token.getFamilyId().equals(familyId))
+                .toList();
+        assertThat(family).hasSize(2).allMatch(RefreshToken::isRevoked);
+        assertThatThrownBy(() -> sessionTokenService.refresh(refreshed.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 다른 로그인(family)은 영향 없음
+        assertThat(stored(otherDevice.getRefreshToken()).isRevoked()).isFalse();
+    }
+
+    @Test
+    void 만료된_토큰은_거부() {
+        Users user = saveUser("4242", false);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash("expired-refresh-token"))
+                .familyId("expired-family")
+                .user(user)
+                .expiresAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        assertThatThrownBy(() -> sessionTokenService.refresh("expired-refresh-token"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("만료");
+        assertThat(stored("expired-refresh-token").isRevoked()).isFalse();
+    }
+
+    @Test
+    void 탈퇴한_유저의_토큰은_거부하고_family_를_revoke() {
+        LoginResponseDto login = sessionTokenService.login(saveUser("4242", true));
+
+        assertThatThrownBy(() -> sessionTokenService.refresh(login.getRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(stored(login.getRefreshToken()).isRevoked()).isTrue();
+    }
+
+    @Test
+    void 모르는_토큰은_거부() {
+        assertThatThrownBy(() -> sessionTokenService.refresh("unknown-refresh-token"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Users saveUser(String uid, boolean deleted) {
+        return usersRepository.save(Users.builder()
+                .uid(uid)
+                .provider(Provider.KAKAO)
+                .email(uid + "@kakao.com")
+                .nickname("팝팡" + uid)
+                .role(Role.MEMBER)
+                .deleted(deleted)
+                .build());
+    }
+
+    private RefreshToken stored(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        return refreshTokenRepository.findAll().stream()
+                .filter(token -> token.getTokenHash().equals(tokenHash))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.poppang.be.test.domain.auth.application;
+
+import com.poppang.be.test.domain.auth.config.CredentialCacheProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedCredentialCacheTest {
+
+    private final VerifiedCredentialCache cache =
+            new VerifiedCredentialCache(new CredentialCacheProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void 만료_전_같은_토큰은_다시_검증하지_않음() {
+        AtomicInteger verifications = new AtomicInteger();
+        Instant exp = Instant.now().plusSeconds(3600);
+
+        for (int i = 0; i < 3; i++) {
+            VerifiedCredentialCache.Identity identity = cache.resolve(Provider.GOOGLE, "id-token", () -> {
+                verifications.incrementAndGet();
+                return new VerifiedCredentialCache.Identity("sub-1", "a@b.com", exp);
+            });
+            assertThat(identity.uid()).isEqualTo("sub-1");
+        }
+
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    void 곧_만료될_토큰은_캐시하지_않음() {
+        AtomicInteger verifications = new AtomicInteger();
+        // expiry-skew(30초) 안쪽
+        Instant exp = Instant.now().plusSeconds(10);
+
+        for (int i = 0; i < 2; i++) {
+            cache.resolve(Provider.KAKAO, "access-token", () -> {
+                verifications.incrementAndGet();
+                return new VerifiedCredentialCache.Identity("4242", null, exp);
+            });
+        }
+
+        assertThat(verifications).hasValue(2);
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.poppang.be.test.domain.auth.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.auth.config.SessionTokenProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.Users;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionTokenCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Users user = Users.builder()
+            .uid("4242")
+            .provider(Provider.KAKAO)
+            .email("codec@kakao.com")
+            .nickname("팝팡")
+            .role(Role.MEMBER)
+            .alerted(true)
+            .build();
+
+    @Test
+    void 발급한_토큰은_같은_클레임으로_복원() {
+        SessionTokenCodec codec = codec(keys("k1"), null);
+        SessionClaims claims = SessionClaims.of(codec.getIssuer(), user, Instant.now(), Duration.ofMinutes(15));
+
+        assertThat(codec.decode(codec.encode(claims))).isEqualTo(claims);
+    }
+
+    @Test
+    void 서명이_바뀐_토큰은_거부() {
+        SessionTokenCodec codec = codec(keys("k1"), null);
+        String token = codec.encode(SessionClaims.of(codec.getIssuer(), user, Instant.now(), Duration.ofMinutes(15)));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.decode("not-a-token")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 키_교체_중에는_이전_kid_토큰도_검증() {
+        SessionTokenCodec before = codec(keys("k1"), null);
+        SessionTokenCodec after = codec(keys("k1", "k2"), "k2");
+        String oldToken = before.encode(SessionClaims.of(before.getIssuer(), user, Instant.now(), Duration.ofMinutes(15)));
+
+        assertThat(after.decode(oldToken).uid()).isEqualTo("4242");
+        assertThatThrownBy(() -> codec(keys("k2"), null).decode(oldToken)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 키가_없으면_개발_프로필이_아닌_경우_기동_실패() {
+        SessionTokenProperties properties = new SessionTokenProperties();
+        MockEnvironment production = new MockEnvironment();
+        MockEnvironment local = new MockEnvironment();
+        local.setActiveProfiles("local");
+
+        assertThatThrownBy(() -> new SessionTokenCodec(properties, objectMapper, production))
+                .isInstanceOf(IllegalStateException.class);
+
+        SessionTokenCodec ephemeral = new SessionTokenCodec(properties, objectMapper, local);
+        String token = ephemeral.encode(SessionClaims.of(ephemeral.getIssuer(), user, Instant.now(), Duration.ofMinutes(15)));
+        assertThat(ephemeral.decode(token).uid()).isEqualTo("4242");
+    }
+
+    private SessionTokenCodec codec(Map<String, String> keys, String activeKid) {
+        SessionTokenProperties properties = new SessionTokenProperties();
+        properties.setKeys(keys);
+        properties.setActiveKid(activeKid);
+        return new SessionTokenCodec(properties, objectMapper, new MockEnvironment());
+    }
+
+    private static Map<String, String> keys(String... kids) {
+        Map<String, String> keys = new LinkedHashMap<>();
+        for (String kid : kids) {
+            byte[] secret = new byte[32];
+            secret[0] = (byte) kid.hashCode();
+            keys.put(kid, Base64.getEncoder().encodeToString(secret));
+        }
+        return keys;
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.poppang.be.test.domain.keyword.application;
+
+import com.poppang.be.test.domain.keyword.infrastructure.KeywordBulkRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordDictionaryTest {
+
+    private static final PlatformTransactionManager NO_OP_TRANSACTIONS = new PlatformTransactionManager() {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    };
+
+    @Test
+    void 같은_이름은_같은_id_로_interning() {
+        InMemoryKeywordBulkRepository store = new InMemoryKeywordBulkRepository(1);
+        KeywordDictionary dictionary = new KeywordDictionary(null, store, NO_OP_TRANSACTIONS);
+
+        Map<String, Integer> first = dictionary.resolve(List.of("팝업", " 팝업 ", "전시", ""));
+        Map<String, Integer> second = dictionary.resolve(List.of("전시", "팝업"));
+
+        assertThat(first).containsOnlyKeys("팝업", "전시");
+        assertThat(second).isEqualTo(Map.of("전시", first.get("전시"), "팝업", first.get("팝업")));
+        assertThat(dictionary.getName(first.get("팝업"))).isEqualTo("팝업");
+        assertThat(dictionary.getId(" 전시")).isEqualTo(first.get("전시"));
+        assertThat(dictionary.size()).isEqualTo(2);
+        // 두 번째 resolve 는 사전에서만 변환 (DB 등록 없음)
+        assertThat(store.inserts).hasValue(1);
+    }
+
+    @Test
+    void 동시에_같은_새_이름을_등록해도_id_는_하나() throws Exception {
+        InMemoryKeywordBulkRepository store = new InMemoryKeywordBulkRepository(1);
+        KeywordDictionary dictionary = new KeywordDictionary(null, store, NO_OP_TRANSACTIONS);
+        List<String> names = List.of("팝업", "전시", "굿즈", "카페");
+
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, Integer>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return dictionary.resolve(names);
+            }));
+        }
+        start.countDown();
+
+        Map<String, Integer> expected = results.get(0).get();
+        for (Future<Map<String, Integer>> result : results) {
+            assertThat(result.get()).isEqualTo(expected);
+        }
+        executor.shutdown();
+
+        assertThat(expected.values()).doesNotHaveDuplicates();
+        assertThat(dictionary.size()).isEqualTo(names.size());
+        names.forEach(name -> assertThat(dictionary.getName(expected.get(name))).isEqualTo(name));
+    }
+
+    @Test
+    void id_가_배열보다_크면_id_to_name_배열을_늘림() {
+        InMemoryKeywordBulkRepository store = new InMemoryKeywordBulkRepository(5_000);
+        KeywordDictionary dictionary = new KeywordDictionary(null, store, NO_OP_TRANSACTIONS);
+
+        int small = dictionary.resolveIds(List.of("팝업")).get(0);
+        store.sequence.set(100_000);
+        int large = dictionary.resolveIds(List.of("전시")).get(0);
+
+        assertThat(small).isEqualTo(5_000);
+        assertThat(large).isEqualTo(100_000);
+        // 늘린 뒤에도 기존 항목 유지, 빈 칸과 범위 밖은 null
+        assertThat(dictionary.getName(small)).isEqualTo("팝업");
+        assertThat(dictionary.getName(large)).isEqualTo("전시");
+        assertThat(dictionary.getName(50_000)).isNull();
+        assertThat(dictionary.getName(100_001)).isNull();
+        assertThat(dictionary.getName(-1)).isNull();
+    }
+
+    // keyword 테이블 흉내 (INSERT IGNORE: 이미 있는 이름은 기존 id 유지)
+    private static final class InMemoryKeywordBulkRepository extends KeywordBulkRepository {
+
+        private final Map<String, Integer> rows = new HashMap<>();
+        private final AtomicInteger sequence;
+        private final AtomicInteger inserts = new AtomicInteger();
+
+        private InMemoryKeywordBulkRepository(int firstId) {
+            super(null);
+            this.sequence = new AtomicInteger(firstId);
+        }
+
+        @Override
+        public synchronized void insertIgnore(List<String> names) {
+            inserts.incrementAndGet();
+            names.forEach(name -> rows.computeIfAbsent(name, key -> sequence.getAndIncrement()));
+        }
+
+        @Override
+        public synchronized Map<String, Integer> findIds(List<String> names) {
+            Map<String, Integer> ids = new HashMap<>();
+            names.forEach(name -> {
+                Integer id = rows.get(name);
+                if (id != null) {
+                    ids.put(name, id);
+                }
+            });
+            return ids;
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.poppang.be.test.domain.keyword.application;
+
+import com.poppang.be.test.domain.keyword.config.KeywordMigrationProperties;
+import com.poppang.be.test.domain.keyword.infrastructure.KeywordBulkRepository;
+import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordMigrationRepository;
+import com.poppang.be.test.domain.keyword.infrastructure.UserKeywordMigrationRepository.LegacyRow;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserKeywordMigrationTest {
+
+    private static final List<LegacyRow> LEGACY = List.of(
+            new LegacyRow(1, 10, "팝업"),
+            new LegacyRow(2, 10, "전시"),
+            new LegacyRow(3, 11, " 팝업 "),
+            new LegacyRow(4, 11, "  "),
+            new LegacyRow(5, 12, "굿즈")
+    );
+
+    private final InMemoryMigrationRepository repository = new InMemoryMigrationRepository();
+    private final KeywordDictionary dictionary = new KeywordDictionary(null, new InMemoryKeywordBulkRepository(), noOpTransactions());
+
+    @Test
+    void chunk_단위로_읽어서_빈_키워드를_제외하고_이관() {
+        migration(0L).migrate();
+
+        // chunk-size 2: 1~2, 3~4, 5 (마지막 chunk 가 덜 차면 종료)
+        assertThat(repository.afterIds).containsExactly(0L, 2L, 4L);
+        assertThat(repository.inserted).containsExactly(
+                pair(10, "팝업"),
+                pair(10, "전시"),
+                pair(11, "팝업"),
+                pair(12, "굿즈")
+        );
+    }
+
+    @Test
+    void start_after_id_부터_재개하고_재실행해도_중복_없음() {
+        migration(0L).migrate();
+        int before = repository.inserted.size();
+
+        migration(2L).migrate();
+
+        assertThat(repository.afterIds).endsWith(2L, 4L);
+        assertThat(repository.inserted).hasSize(before);
+        assertThat(repository.insertedRows).isEqualTo(before);
+    }
+
+    private UserKeywordMigration migration(long startAfterId) {
+        KeywordMigrationProperties properties = new KeywordMigrationProperties();
+        properties.setChunkSize(2);
+        properties.setPauseBetweenChunks(Duration.ZERO);
+        properties.setStartAfterId(startAfterId);
+        return new UserKeywordMigration(dictionary, repository, properties);
+    }
+
+    private String pair(long userId, String keyword) {
+        return userId + ":" + dictionary.getId(keyword);
+    }
+
+    private static PlatformTransactionManager noOpTransactions() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+
+    // user_keyword_legacy / user_keyword 흉내 (INSERT IGNORE: (users_id, keyword_id) 중복은 무시)
+    private static final class InMemoryMigrationRepository extends UserKeywordMigrationRepository {
+
+        private final List<Long> afterIds = new ArrayList<>();
+        private final Set<String> inserted = new LinkedHashSet<>();
+        private int insertedRows;
+
+        private InMemoryMigrationRepository() {
+            super(null);
+        }
+
+        @Override
+        public List<LegacyRow> findLegacyAfter(long afterId, int limit) {
+            afterIds.add(afterId);
+            return LEGACY.stream()
+                    .filter(row -> row.id() > afterId)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public int insertIgnore(List<Long> userIds, List<Integer> keywordIds) {
+            int count = 0;
+            for (int i = 0; i < userIds.size(); i++) {
+                if (inserted.add(userIds.get(i) + ":" + keywordIds.get(i))) {
+                    count++;
+                }
+            }
+            insertedRows += count;
+            return count;
+        }
+
+    }
+
+    private static final class InMemoryKeywordBulkRepository extends KeywordBulkRepository {
+
+        private final Map<String, Integer> rows = new HashMap<>();
+
+        private InMemoryKeywordBulkRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertIgnore(List<String> names) {
+            names.forEach(name -> rows.computeIfAbsent(name, key -> rows.size() + 1));
+        }
+
+        @Override
+        public Map<String, Integer> findIds(List<String> names) {
+            Map<String, Integer> ids = new HashMap<>();
+            names.stream().filter(rows::containsKey).forEach(name -> ids.put(name, rows.get(name)));
+            return ids;
+        }
+
+    }
+
+}
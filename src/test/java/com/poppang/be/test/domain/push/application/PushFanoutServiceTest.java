@@ -0,0 +1,126 @@
+package com.poppang.be.test.domain.push.application;
+
+import com.poppang.be.test.domain.audience.infrastructure.AudienceSourceRepository.TargetRow;
+import com.poppang.be.test.domain.push.config.PushProperties;
+import com.poppang.be.test.domain.push.dto.PushMessage;
+import com.poppang.be.test.domain.push.dto.response.PushSendResponseDto;
+import com.poppang.be.test.domain.push.infrastructure.PushTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PushFanoutServiceTest {
+
+    private final PushMessage message = new PushMessage("title", "body", Map.of());
+    private final List<String> prunedTokens = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> prunedUserIds = Collections.synchronizedList(new ArrayList<>());
+    private final PushTokenPruner pruner = new PushTokenPruner(null, null) {
+        @Override
+        public int prune(List<TargetRow> recipients) {
+            recipients.forEach(recipient -> {
+                prunedTokens.add(recipient.fcmToken());
+                prunedUserIds.add(recipient.userId());
+            });
+            return recipients.size();
+        }
+    };
+
+    private PushFanoutService service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void 배치로_나눠_전송하고_무효_토큰은_정리() {
+        PushProperties properties = properties();
+        service = new PushFanoutService(properties, invalidPrefixTransport(), pruner, null, null, new SimpleMeterRegistry());
+
+        // 1,050 명 → 100 개씩 11 배치, 10 명 중 1 명은 무효 토큰
+        List<TargetRow> recipients = IntStream.rangeClosed(1, 1_050)
+                .mapToObj(id -> new TargetRow(id, "uid-" + id, (id % 10 == 0 ? "invalid-" : "fcm-") + id))
+                .toList();
+
+        PushSendResponseDto result = service.fanOut(message, recipients.iterator());
+
+        assertThat(result.getRecipients()).isEqualTo(1_050);
+        assertThat(result.getBatches()).isEqualTo(11);
+        assertThat(result.getSent()).isEqualTo(945);
+        assertThat(result.getInvalid()).isEqualTo(105);
+        assertThat(result.getPruned()).isEqualTo(105);
+        assertThat(result.getFailed()).isZero();
+        assertThat(prunedTokens).hasSize(105).allMatch(token -> token.startsWith("invalid-"));
+        assertThat(prunedUserIds).hasSize(105).allMatch(userId -> userId % 10 == 0);
+    }
+
+    @Test
+    void 일시_오류는_재시도하고_끝까지_실패하면_failed() {
+        PushProperties properties = properties();
+        AtomicInteger calls = new AtomicInteger();
+        // 첫 시도는 전부 일시 오류, 이후 "flaky" 토큰만 계속 일시 오류
+        PushTransport transport = (msg, tokens) -> {
+            if (calls.getAndIncrement() == 0) {
+                return new PushTransport.Result(0, List.of(), tokens);
+            }
+            List<String> retryable = tokens.stream().filter(token -> token.startsWith("flaky")).toList();
+            return new PushTransport.Result(tokens.size() - retryable.size(), List.of(), retryable);
+        };
+        service = new PushFanoutService(properties, transport, pruner, null, null, new SimpleMeterRegistry());
+
+        List<TargetRow> recipients = List.of(
+                new TargetRow(1, "uid-1", "fcm-1"),
+                new TargetRow(2, "uid-2", "flaky-2"),
+                new TargetRow(3, "uid-3", "fcm-3")
+        );
+
+        PushSendResponseDto result = service.fanOut(message, recipients.iterator());
+
+        assertThat(result.getSent()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        // 1회차 3개 + 2회차 flaky 1개
+        assertThat(result.getRetried()).isEqualTo(4);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void 전송_구현이_없으면_발송하지_않음() {
+        service = new PushFanoutService(properties(), null, pruner, null, null, new SimpleMeterRegistry());
+        List<TargetRow> recipients = List.of(new TargetRow(1, "uid-1", "fcm-1"));
+
+        assertThat(service.isAvailable()).isFalse();
+        assertThatThrownBy(() -> service.fanOut(message, recipients.iterator()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static PushProperties properties() {
+        PushProperties properties = new PushProperties();
+        properties.setBatchSize(100);
+        properties.setWorkerThreads(4);
+        properties.setQueueCapacity(2);
+        properties.setMessagesPerSecond(1e9);
+        properties.setPruneBatchSize(30);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(5));
+        return properties;
+    }
+
+    private static PushTransport invalidPrefixTransport() {
+        return (msg, tokens) -> {
+            List<String> invalid = tokens.stream().filter(token -> token.startsWith("invalid")).toList();
+            return new PushTransport.Result(tokens.size() - invalid.size(), invalid, List.of());
+        };
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.poppang.be.test.domain.recommend.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poppang.be.test.domain.recommend.config.RecommendCatalogProperties;
+import com.poppang.be.test.domain.recommend.infrastructure.RecommendRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RecommendCatalogCacheTest {
+
+    @Autowired
+    private RecommendRepository recommendRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private RecommendCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        RecommendCatalogProperties properties = new RecommendCatalogProperties();
+        properties.setMissReloadInterval(Duration.ofHours(1));
+        cache = new RecommendCatalogCache(recommendRepository, objectMapper, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM recommend");
+    }
+
+    @Test
+    void 없는_id_는_한_번_재적재한_뒤_판단하고_재적재는_간격_안에_한_번만() {
+        long first = insert("팝업");
+        cache.reload();
+
+        // 정기 재적재 전에 추가된 항목 → 미스 재적재로 통과
+        long added = insert("전시");
+        assertThat(cache.resolveIds(List.of(first, added))).containsExactly(first, added);
+
+        // 간격 안의 두 번째 미스는 재적재 없이 거절
+        long late = insert("굿즈");
+        assertThatThrownBy(() -> cache.resolveIds(List.of(late)))
+                .isInstanceOf(UnknownRecommendException.class)
+                .hasMessageContaining(String.valueOf(late));
+        assertThat(cache.contains(late)).isFalse();
+    }
+
+    private long insert(String name) {
+        jdbcTemplate.update("INSERT INTO recommend (recommend_name) VALUES (?)", name);
+        return jdbcTemplate.queryForObject("SELECT id FROM recommend WHERE recommend_name = ?", Long.class, name);
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.poppang.be.test.domain.recommend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogPayloadTest {
+
+    private static final byte[] JSON = "[{\"recommendId\":1,\"recommendName\":\"전시\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void 같은_내용이면_같은_ETag_이고_gzip_표현은_구분() {
+        CatalogPayload payload = CatalogPayload.of(JSON);
+        CatalogPayload same = CatalogPayload.of(JSON.clone());
+        CatalogPayload changed = CatalogPayload.of("[]".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(payload.etag(false)).isEqualTo(same.etag(false)).startsWith("\"").endsWith("\"");
+        assertThat(payload.etag(true)).isNotEqualTo(payload.etag(false));
+        assertThat(payload.etag(false)).isNotEqualTo(changed.etag(false));
+        assertThat(payload.sameContent(JSON.clone())).isTrue();
+    }
+
+    @Test
+    void gzip_본문은_원래_JSON_으로_풀림() throws IOException {
+        CatalogPayload payload = CatalogPayload.of(JSON);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.body(true)))) {
+            assertThat(in.readAllBytes()).isEqualTo(JSON);
+        }
+        assertThat(payload.body(false)).isEqualTo(JSON);
+    }
+
+    @Test
+    void If_None_Match_는_두_표현과_약한_비교_와일드카드를_인정() {
+        CatalogPayload payload = CatalogPayload.of(JSON);
+
+        assertThat(payload.matches(payload.etag(false))).isTrue();
+        assertThat(payload.matches("\"other\", " + payload.etag(true))).isTrue();
+        assertThat(payload.matches("W/" + payload.etag(false))).isTrue();
+        assertThat(payload.matches("*")).isTrue();
+        assertThat(payload.matches("\"other\"")).isFalse();
+        assertThat(payload.matches(null)).isFalse();
+    }
+
+}
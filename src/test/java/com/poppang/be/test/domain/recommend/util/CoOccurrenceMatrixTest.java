@@ -0,0 +1,64 @@
+package com.poppang.be.test.domain.recommend.util;
+
+import com.poppang.be.test.domain.recommend.util.CoOccurrenceMatrix.Related;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    void 함께_고른_유저_수_순으로_상위_항목() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(4, 64);
+        add(matrix, 1, 2, 3);
+        add(matrix, 1, 2);
+        add(matrix, 1, 3, 3);
+        add(matrix, 1, 4);
+        add(matrix, 2, 4);
+
+        assertThat(matrix.baskets()).isEqualTo(5);
+        assertThat(matrix.count(1)).isEqualTo(4);
+        assertThat(matrix.count(3)).isEqualTo(2);
+        assertThat(matrix.count(1, 3)).isEqualTo(matrix.count(3, 1)).isEqualTo(2);
+
+        // 2, 3 이 동점이면 id 오름차순
+        List<Related> related = matrix.topRelated(new long[]{1}, 2);
+        assertThat(related).containsExactly(
+                new Related(2, 2, 3),
+                new Related(3, 2, 2)
+        );
+    }
+
+    @Test
+    void 여러_항목은_행을_합산하고_입력_항목은_제외() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(4, 64);
+        add(matrix, 1, 2, 3);
+        add(matrix, 2, 3);
+        add(matrix, 1, 4);
+
+        // 3: (1,3)=1 + (2,3)=2, 4: (1,4)=1 + (2,4)=0
+        assertThat(matrix.topRelated(new long[]{1, 2}, 10)).containsExactly(
+                new Related(3, 3, 2),
+                new Related(4, 1, 1)
+        );
+    }
+
+    @Test
+    void 범위를_넘는_id_는_배열을_늘리고_상한은_거부() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(2, 64);
+        add(matrix, 1, 40);
+
+        assertThat(matrix.count(1, 40)).isEqualTo(1);
+        assertThat(matrix.topRelated(new long[]{40}, 5)).containsExactly(new Related(1, 1, 1));
+        assertThatThrownBy(() -> add(matrix, 1, 64))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void add(CoOccurrenceMatrix matrix, long... ids) {
+        matrix.addBasket(ids, ids.length);
+    }
+
+}
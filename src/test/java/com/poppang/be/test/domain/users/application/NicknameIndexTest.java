@@ -0,0 +1,155 @@
+package com.poppang.be.test.domain.users.application;
+
+import com.poppang.be.test.common.enums.Role;
+import com.poppang.be.test.domain.users.config.NicknameIndexProperties;
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.Users;
+import com.poppang.be.test.domain.users.infrastructure.InProcessUsersInvalidationBus;
+import com.poppang.be.test.domain.users.infrastructure.UsersRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+닉네임 인덱스: 재구축 / 증분 동기화 / Bloom filter 히트 시 DB 확인
+- UsersRepository 를 프록시로 감싸서 메서드별 호출 수를 셈 (existsByNickname 이 불리면 DB 확인)
+- 인스턴스 간 전파는 두 인덱스가 같은 InProcessUsersInvalidationBus 를 공유해서 흉내
+ */
+@SpringBootTest
+class NicknameIndexTest {
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private InProcessUsersInvalidationBus bus;
+    private NicknameIndex nicknameIndex;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessUsersInvalidationBus();
+        nicknameIndex = newIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        usersRepository.deleteAll();
+    }
+
+    @Test
+    void 재구축은_페이지_단위로_전체를_적재() {
+        for (int i = 1; i <= 5; i++) {
+            saveUser("uid-" + i, "팝팡" + i);
+        }
+
+        nicknameIndex.rebuild();
+
+        // 페이지 크기 2: 2 + 2 + 1
+        assertThat(calls("findNicknamesAfter")).isEqualTo(3);
+        for (int i = 1; i <= 5; i++) {
+            assertThat(nicknameIndex.isTaken("팝팡" + i)).isTrue();
+        }
+        assertThat(nicknameIndex.isTaken("없는닉네임")).isFalse();
+        // 없는 닉네임은 Bloom filter 에서 끝남 (DB 확인은 있는 5개만)
+        assertThat(calls("existsByNickname")).isEqualTo(5);
+    }
+
+    @Test
+    void 다른_인스턴스_가입분은_증분_동기화_후_반영() {
+        saveUser("uid-1", "팝팡");
+        nicknameIndex.rebuild();
+
+        // 다른 인스턴스에서 가입 (이 인스턴스의 add 를 거치지 않음)
+        saveUser("uid-2", "늦은가입");
+        assertThat(nicknameIndex.isTaken("늦은가입")).isFalse();
+
+        nicknameIndex.sync();
+
+        assertThat(calls("findNicknamesUpdatedSince")).isEqualTo(1);
+        assertThat(nicknameIndex.isTaken("늦은가입")).isTrue();
+    }
+
+    @Test
+    void 가입한_닉네임은_bus_로_다른_인스턴스에_바로_반영() {
+        NicknameIndex other = newIndex();
+        nicknameIndex.rebuild();
+        other.rebuild();
+
+        // 이 인스턴스에서 가입 (커밋 전 전파) → 다른 인스턴스는 sync 없이 DB 확인으로 넘어감
+        nicknameIndex.add("방금가입");
+        saveUser("uid-1", "방금가입");
+
+        assertThat(other.isTaken("방금가입")).isTrue();
+        assertThat(calls("findNicknamesUpdatedSince")).isZero();
+    }
+
+    @Test
+    void filter_에_있어도_DB_에_없으면_사용_가능() {
+        saveUser("uid-1", "Café");
+        nicknameIndex.rebuild();
+        // 가입 후 롤백된 닉네임 (filter 에만 남음)
+        nicknameIndex.add("유령");
+
+        assertThat(nicknameIndex.isTaken("유령")).isFalse();
+        // 악센트 / 대소문자 / 뒤 공백만 다른 값도 filter 에서 걸러지지 않고 DB 로 확인
+        assertThat(nicknameIndex.isTaken("CAFE ")).isFalse();
+        assertThat(nicknameIndex.isTaken("Café")).isTrue();
+        assertThat(calls("existsByNickname")).isEqualTo(3);
+    }
+
+    @Test
+    void 정규화는_collation_이_같다고_보는_값을_같은_키로() {
+        assertThat(NicknameIndex.normalize("Café")).isEqualTo(NicknameIndex.normalize("cafe"));
+        assertThat(NicknameIndex.normalize("ＣＡＦＥ")).isEqualTo(NicknameIndex.normalize("cafe"));
+        assertThat(NicknameIndex.normalize("팝팡  ")).isEqualTo(NicknameIndex.normalize("팝팡"));
+        assertThat(NicknameIndex.normalize("팝팡")).isNotEqualTo(NicknameIndex.normalize("팝콘"));
+    }
+
+    private NicknameIndex newIndex() {
+        NicknameIndexProperties properties = new NicknameIndexProperties();
+        properties.setExpectedInsertions(1_000);
+        properties.setFalsePositiveRate(0.0001);
+        properties.setRebuildPageSize(2);
+        return new NicknameIndex(counting(usersRepository), properties, bus);
+    }
+
+    private void saveUser(String uid, String nickname) {
+        usersRepository.save(Users.builder()
+                .uid(uid)
+                .provider(Provider.KAKAO)
+                .nickname(nickname)
+                .role(Role.MEMBER)
+                .build());
+    }
+
+    private int calls(String method) {
+        AtomicInteger count = calls.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    private UsersRepository counting(UsersRepository target) {
+        return (UsersRepository) Proxy.newProxyInstance(
+                UsersRepository.class.getClassLoader(),
+                new Class<?>[]{UsersRepository.class},
+                (proxy, method, args) -> {
+                    calls.computeIfAbsent(method.getName(), name -> new AtomicInteger()).incrementAndGet();
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }
+        );
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.poppang.be.test.domain.users.infrastructure;
+
+import com.poppang.be.test.domain.users.entity.Provider;
+import com.poppang.be.test.domain.users.entity.Users;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UsersRepositoryTest {
+
+    private static final int CONCURRENT_LOGINS = 16;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @AfterEach
+    void tearDown() {
+        usersRepository.deleteAll();
+    }
+
+    @Test
+    void upsertByUid_동시_최초_로그인이어도_한_행만_생성() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        CountDownLatch ready = new CountDownLatch(CONCURRENT_LOGINS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Users>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return usersRepository.upsertByUid("kakao-1234", Provider.KAKAO, null);
+            }));
+        }
+
+        ready.await();
+        start.countDown();
+
+        // Future.get() 은 upsert 중 예외가 나면 ExecutionException 으로 실패
+        Set<Long> userIds = new HashSet<>();
+        for (Future<Users> result : results) {
+            userIds.add(result.get(30, TimeUnit.SECONDS).getId());
+        }
+        executor.shutdown();
+
+        assertThat(userIds).hasSize(1);
+        assertThat(usersRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void upsertByUid_기존_유저는_그대로_반환() {
+        Users first = usersRepository.upsertByUid("apple-1234", Provider.APPLE, "first@poppang.com");
+        Users second = usersRepository.upsertByUid("apple-1234", Provider.APPLE, "second@poppang.com");
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(second.getEmail()).isEqualTo("first@poppang.com");
+        assertThat(usersRepository.count()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.poppang.be.test.domain.users.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameBloomFilterTest {
+
+    @Test
+    void 추가한_닉네임은_항상_있을수도있음으로_판정() {
+        NicknameBloomFilter filter = new NicknameBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("nick-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("nick-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void 오탐률이_목표치_근처로_유지() {
+        NicknameBloomFilter filter = new NicknameBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("nick-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+}